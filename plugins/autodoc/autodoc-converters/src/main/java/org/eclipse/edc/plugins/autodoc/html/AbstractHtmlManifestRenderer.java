@@ -0,0 +1,300 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.plugins.autodoc.html;
+
+import j2html.TagCreator;
+import j2html.tags.DomContent;
+import j2html.tags.Text;
+import j2html.tags.specialized.ArticleTag;
+import j2html.tags.specialized.CodeTag;
+import j2html.tags.specialized.HeadTag;
+import j2html.tags.specialized.TrTag;
+import j2html.tags.specialized.UlTag;
+import org.eclipse.edc.plugins.autodoc.spi.ManifestConverterException;
+import org.eclipse.edc.plugins.autodoc.spi.ManifestRenderer;
+import org.eclipse.edc.runtime.metamodel.domain.ConfigurationSetting;
+import org.eclipse.edc.runtime.metamodel.domain.ModuleType;
+import org.eclipse.edc.runtime.metamodel.domain.Service;
+import org.eclipse.edc.runtime.metamodel.domain.ServiceReference;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import static j2html.TagCreator.a;
+import static j2html.TagCreator.article;
+import static j2html.TagCreator.b;
+import static j2html.TagCreator.body;
+import static j2html.TagCreator.code;
+import static j2html.TagCreator.em;
+import static j2html.TagCreator.h2;
+import static j2html.TagCreator.h3;
+import static j2html.TagCreator.h4;
+import static j2html.TagCreator.head;
+import static j2html.TagCreator.hr;
+import static j2html.TagCreator.html;
+import static j2html.TagCreator.li;
+import static j2html.TagCreator.nav;
+import static j2html.TagCreator.section;
+import static j2html.TagCreator.span;
+import static j2html.TagCreator.style;
+import static j2html.TagCreator.table;
+import static j2html.TagCreator.tag;
+import static j2html.TagCreator.tbody;
+import static j2html.TagCreator.td;
+import static j2html.TagCreator.th;
+import static j2html.TagCreator.thead;
+import static j2html.TagCreator.tr;
+import static j2html.TagCreator.ul;
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.IntStream.range;
+
+
+/**
+ * Renders the modules of a manifest as HTML. By default, the document is built as a tag tree in memory and written when the
+ * rendering is finalized, subclasses decide where the rendered tags go by overriding {@link #appendContent(DomContent...)}
+ * and {@link #appendMenuItem(DomContent)}.
+ */
+public abstract class AbstractHtmlManifestRenderer implements ManifestRenderer {
+
+    private final OutputStream outputStream;
+    private Document document;
+
+    protected AbstractHtmlManifestRenderer(OutputStream outputStream) {
+        this.outputStream = outputStream;
+    }
+
+    @Override
+    public void renderDocumentHeader() {
+        document().head().with(style(readStyle()));
+    }
+
+    @Override
+    public void renderModuleHeading(@Nullable String moduleName, @NotNull String modulePath, @NotNull String version) {
+        var modulePublishedName = anchor(modulePath);
+
+        var ul = ul();
+        if (moduleName != null) {
+            ul.with(li(b("Name: "), new Text(moduleName)));
+        }
+        ul.with(
+                li(b("Path: "), code(modulePath)),
+                li(b("Version: "), code(version))
+        );
+
+        var moduleTitle = h2(modulePublishedName).withId(modulePublishedName);
+        appendContent(hr(), a(moduleTitle).withHref("#" + modulePublishedName), ul);
+
+        appendMenuItem(li().with(a(modulePublishedName).withHref("#" + modulePublishedName)));
+    }
+
+    @Override
+    public void renderCategories(List<String> categories) {
+        var categoriesString = categories.isEmpty()
+                ? "none"
+                : categories.stream().filter(Objects::nonNull).filter(it -> !it.isBlank()).collect(joining(", "));
+
+        appendContent(em("Categories: " + categoriesString));
+    }
+
+    @Override
+    public void renderExtensionPoints(List<Service> extensionPoints) {
+        appendContent(h3("Extension Points"));
+
+        if (extensionPoints.isEmpty()) {
+            appendContent(em("none"));
+        } else {
+            var list = ul();
+            extensionPoints.stream().map(it -> li(em(it.getService()))).forEach(list::with);
+            appendContent(list);
+        }
+    }
+
+    @Override
+    public void renderExtensionHeading() {
+
+    }
+
+    @Override
+    public void renderExtensionHeader(@NotNull String className, @Nullable String name, @Nullable String overview, ModuleType type) {
+        var extensionDetail = ul()
+                .with(li(b("Class: ")).with(code(className)))
+                .with(li(b("Type: ")).with(span(type.getKey())));
+
+        if (overview != null) {
+            extensionDetail.with(li(b("Overview: ")).with(span(overview)));
+        }
+
+        appendContent(h3("Extension " + name), extensionDetail);
+    }
+
+    @Override
+    public void renderConfigurations(List<ConfigurationSetting> configuration) {
+        appendContent(h4("Configuration: "));
+        if (configuration.isEmpty()) {
+            appendContent(em("none"));
+        } else {
+            var header = tr(th("Key"), th("Required"), th("Type"), th("Default"),
+                    th("Pattern"), th("Min"), th("Max"), th("Description"));
+
+            var tbody = tbody();
+
+            range(0, configuration.size())
+                    .mapToObj(index -> renderConfigurationRow(configuration.get(index), index))
+                    .forEach(tbody::with);
+
+            appendContent(table().with(thead(header)).with(tbody));
+        }
+    }
+
+    private TrTag renderConfigurationRow(ConfigurationSetting setting, int index) {
+        var key = code(setting.getKey());
+
+        return tr(
+                td(setting.isDeprecated() ? tag("s").with(key) : key),
+                td(setting.isRequired() ? code("x") : null).attr("align", "center"),
+                td(code(setting.getType())).attr("align", "center"),
+                td(code(setting.getDefaultValue())),
+                td(codeOrNull(setting.getPattern())).attr("align", "center"),
+                td(codeOrNull(setting.getMinimum())).attr("align", "right"),
+                td(codeOrNull(setting.getMaximum())).attr("align", "right"),
+                td(setting.getDescription()).attr("width", "40%")
+        ).withClass(index % 2 == 0 ? "even" : "odd");
+    }
+
+    @Override
+    public void renderProvidedServices(List<Service> provides) {
+        appendContent(h4("Provided Services: "));
+
+        if (provides.isEmpty()) {
+            appendContent(em("none"));
+        } else {
+            var ul = ul();
+            provides.stream().map(Service::getService)
+                    .map(TagCreator::code)
+                    .map(TagCreator::li)
+                    .forEach(ul::with);
+            appendContent(ul);
+        }
+    }
+
+    @Override
+    public void renderReferencedServices(List<ServiceReference> references) {
+        appendContent(h4(new Text("Referenced (injected) Services ("), em("emphasized if required"), new Text("): ")));
+
+        if (references.isEmpty()) {
+            appendContent(em("none"));
+        } else {
+            var ul = ul();
+            references.stream()
+                    .map(service -> {
+                        var code = code(service.getService());
+                        return service.isRequired() ? em(code) : code;
+                    })
+                    .map(TagCreator::li)
+                    .forEach(ul::with);
+            appendContent(ul);
+        }
+    }
+
+    @Override
+    public OutputStream finalizeRendering() {
+        try {
+            var html = html()
+                    .with(document().head())
+                    .with(body().with(section(nav().with(document().menu()), document().content())));
+            outputStream.write(html.render().getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new ManifestConverterException(e);
+        }
+        return outputStream;
+    }
+
+    /**
+     * Adds tags to the content of the document, in the order in which they are rendered.
+     */
+    protected void appendContent(DomContent... tags) {
+        document().content().with(tags);
+    }
+
+    /**
+     * Adds an entry for a module to the navigation menu of the document.
+     */
+    protected void appendMenuItem(DomContent item) {
+        document().menu().with(item);
+    }
+
+    /**
+     * Reads the stylesheet of the document.
+     */
+    protected String readStyle() {
+        return readResource("style.css");
+    }
+
+    /**
+     * Reads a resource that is embedded in the document.
+     */
+    protected String readResource(String name) {
+        try (var stream = getClass().getClassLoader().getResourceAsStream(name)) {
+            if (stream == null) {
+                throw new IllegalArgumentException("Resource not found");
+            }
+
+            return new String(stream.readAllBytes());
+        } catch (Exception exception) {
+            throw new RuntimeException("Cannot read " + name + " resource: " + exception.getMessage());
+        }
+    }
+
+    /**
+     * The id of the heading of a module, which is its published name, or the whole module path if it has no group.
+     */
+    static String anchor(String modulePath) {
+        var tokens = modulePath.split(":");
+        return tokens.length > 1 ? tokens[1] : modulePath;
+    }
+
+    /**
+     * Returns the tag tree of the document, which is created on first use, so that renderers that override the hooks that
+     * write to it do not allocate it.
+     */
+    private Document document() {
+        if (document == null) {
+            document = new Document(head(), ul(), article());
+        }
+        return document;
+    }
+
+    @Nullable
+    private CodeTag codeOrNull(Long value) {
+        return Optional.ofNullable(value).map(Object::toString).map(TagCreator::code).orElse(null);
+    }
+
+    @Nullable
+    private CodeTag codeOrNull(String value) {
+        return Optional.ofNullable(value).map(TagCreator::code).orElse(null);
+    }
+
+    /**
+     * The tag tree of a document that is built in memory.
+     */
+    private record Document(HeadTag head, UlTag menu, ArticleTag content) {
+    }
+}
@@ -14,232 +14,80 @@
 
 package org.eclipse.edc.plugins.autodoc.html;
 
-import j2html.TagCreator;
-import j2html.tags.Text;
-import j2html.tags.specialized.ArticleTag;
-import j2html.tags.specialized.CodeTag;
-import j2html.tags.specialized.HeadTag;
-import j2html.tags.specialized.TrTag;
-import j2html.tags.specialized.UlTag;
-import org.eclipse.edc.plugins.autodoc.spi.ManifestConverterException;
+import j2html.tags.DomContent;
+import org.eclipse.edc.plugins.autodoc.spi.FragmentRenderer;
 import org.eclipse.edc.plugins.autodoc.spi.ManifestRenderer;
-import org.eclipse.edc.runtime.metamodel.domain.ConfigurationSetting;
-import org.eclipse.edc.runtime.metamodel.domain.ModuleType;
-import org.eclipse.edc.runtime.metamodel.domain.Service;
-import org.eclipse.edc.runtime.metamodel.domain.ServiceReference;
-import org.jetbrains.annotations.NotNull;
-import org.jetbrains.annotations.Nullable;
 
-import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
-import java.util.List;
-import java.util.Objects;
-import java.util.Optional;
 
-import static j2html.TagCreator.a;
-import static j2html.TagCreator.article;
-import static j2html.TagCreator.b;
-import static j2html.TagCreator.body;
-import static j2html.TagCreator.code;
-import static j2html.TagCreator.em;
-import static j2html.TagCreator.h2;
-import static j2html.TagCreator.h3;
-import static j2html.TagCreator.h4;
-import static j2html.TagCreator.head;
-import static j2html.TagCreator.hr;
-import static j2html.TagCreator.html;
-import static j2html.TagCreator.li;
-import static j2html.TagCreator.nav;
-import static j2html.TagCreator.section;
-import static j2html.TagCreator.span;
-import static j2html.TagCreator.style;
-import static j2html.TagCreator.table;
-import static j2html.TagCreator.tag;
-import static j2html.TagCreator.tbody;
-import static j2html.TagCreator.td;
-import static j2html.TagCreator.th;
-import static j2html.TagCreator.thead;
-import static j2html.TagCreator.tr;
-import static j2html.TagCreator.ul;
-import static java.util.stream.Collectors.joining;
-import static java.util.stream.IntStream.range;
+import static j2html.TagCreator.rawHtml;
 
-
-public class HtmlManifestRenderer implements ManifestRenderer {
-
-    private final OutputStream outputStream;
-    private final HeadTag head = head();
-    private final UlTag menu = ul();
-    private final ArticleTag content = article();
+/**
+ * Renders a manifest as a single HTML document. The document is built as a tag tree in memory and written when the rendering
+ * is finalized, see {@link StreamingHtmlManifestRenderer} for a renderer that writes each module as it is rendered.
+ */
+public class HtmlManifestRenderer extends AbstractHtmlManifestRenderer implements FragmentRenderer {
 
     public HtmlManifestRenderer(OutputStream outputStream) {
-        this.outputStream = outputStream;
-    }
-
-    @Override
-    public void renderDocumentHeader() {
-        try (var stream = getClass().getClassLoader().getResourceAsStream("style.css")) {
-            if (stream == null) {
-                throw new IllegalArgumentException("Resource not found");
-            }
-
-            head.with(style(new String(stream.readAllBytes())));
-        } catch (Exception exception) {
-            throw new RuntimeException("Cannot read style.css resource: " + exception.getMessage());
-        }
-    }
-
-    @Override
-    public void renderModuleHeading(@Nullable String moduleName, @NotNull String modulePath, @NotNull String version) {
-        var modulePublishedName = modulePath.split(":")[1];
-
-        var ul = ul();
-        if (moduleName != null) {
-            ul.with(li(b("Name: "), new Text(moduleName)));
-        }
-        ul.with(
-                li(b("Path: "), code(modulePath)),
-                li(b("Version: "), code(version))
-        );
-
-        var moduleTitle = h2(modulePublishedName).withId(modulePublishedName);
-        content.with(hr())
-                .with(a(moduleTitle).withHref("#" + modulePublishedName))
-                .with(ul);
-
-        menu.with(li().with(a(modulePublishedName).withHref("#" + modulePublishedName)));
+        super(outputStream);
     }
 
     @Override
-    public void renderCategories(List<String> categories) {
-        var categoriesString = categories.isEmpty()
-                ? "none"
-                : categories.stream().filter(Objects::nonNull).filter(it -> !it.isBlank()).collect(joining(", "));
-
-        content.with(em("Categories: " + categoriesString));
-    }
-
-    @Override
-    public void renderExtensionPoints(List<Service> extensionPoints) {
-        content.with(h3("Extension Points"));
-
-        if (extensionPoints.isEmpty()) {
-            content.with(em("none"));
-        } else {
-            var list = ul();
-            extensionPoints.stream().map(it -> li(em(it.getService()))).forEach(list::with);
-            content.with(list);
-        }
+    public ManifestRenderer createFragmentRenderer() {
+        return new Fragment();
     }
 
     @Override
-    public void renderExtensionHeading() {
-
+    public void appendFragment(ManifestRenderer fragment) {
+        var htmlFragment = (Fragment) fragment;
+        appendContent(rawHtml(htmlFragment.contentHtml.toString()));
+        appendMenuItem(rawHtml(htmlFragment.menuHtml.toString()));
     }
 
+    /**
+     * Encodes the content and the menu entries of the fragment, prefixed with the length of the content.
+     */
     @Override
-    public void renderExtensionHeader(@NotNull String className, @Nullable String name, @Nullable String overview, ModuleType type) {
-        var extensionDetail = ul()
-                .with(li(b("Class: ")).with(code(className)))
-                .with(li(b("Type: ")).with(span(type.getKey())));
-
-        if (overview != null) {
-            extensionDetail.with(li(b("Overview: ")).with(span(overview)));
-        }
-
-        content.with(h3("Extension " + name)).with(extensionDetail);
+    public byte[] encodeFragment(ManifestRenderer fragment) {
+        var htmlFragment = (Fragment) fragment;
+        var content = htmlFragment.contentHtml.toString().getBytes(StandardCharsets.UTF_8);
+        var menu = htmlFragment.menuHtml.toString().getBytes(StandardCharsets.UTF_8);
+        return ByteBuffer.allocate(Integer.BYTES + content.length + menu.length).putInt(content.length).put(content).put(menu).array();
     }
 
     @Override
-    public void renderConfigurations(List<ConfigurationSetting> configuration) {
-        content.with(h4("Configuration: "));
-        if (configuration.isEmpty()) {
-            content.with(em("none"));
-        } else {
-            var header = tr(th("Key"), th("Required"), th("Type"), th("Default"),
-                    th("Pattern"), th("Min"), th("Max"), th("Description"));
-
-            var tbody = tbody();
-
-            range(0, configuration.size())
-                    .mapToObj(index -> renderConfigurationRow(configuration.get(index), index))
-                    .forEach(tbody::with);
-
-            content.with(table().with(thead(header)).with(tbody));
-        }
-    }
-
-    private TrTag renderConfigurationRow(ConfigurationSetting setting, int index) {
-        var key = code(setting.getKey());
-
-        return tr(
-                td(setting.isDeprecated() ? tag("s").with(key) : key),
-                td(setting.isRequired() ? code("x") : null).attr("align", "center"),
-                td(code(setting.getType())).attr("align", "center"),
-                td(code(setting.getDefaultValue())),
-                td(codeOrNull(setting.getPattern())).attr("align", "center"),
-                td(codeOrNull(setting.getMinimum())).attr("align", "right"),
-                td(codeOrNull(setting.getMaximum())).attr("align", "right"),
-                td(setting.getDescription()).attr("width", "40%")
-        ).withClass(index % 2 == 0 ? "even" : "odd");
+    public ManifestRenderer decodeFragment(byte[] encoded) {
+        var contentLength = ByteBuffer.wrap(encoded).getInt();
+        var fragment = new Fragment();
+        fragment.contentHtml.append(new String(encoded, Integer.BYTES, contentLength, StandardCharsets.UTF_8));
+        fragment.menuHtml.append(new String(encoded, Integer.BYTES + contentLength, encoded.length - Integer.BYTES - contentLength, StandardCharsets.UTF_8));
+        return fragment;
     }
 
-    @Override
-    public void renderProvidedServices(List<Service> provides) {
-        content.with(h4("Provided Services: "));
+    /**
+     * Collects the tags of a single module. The tags are rendered to HTML right away, so that the thread which renders the
+     * fragment does the work.
+     */
+    private static class Fragment extends AbstractHtmlManifestRenderer {
+        private final StringBuilder contentHtml = new StringBuilder();
+        private final StringBuilder menuHtml = new StringBuilder();
 
-        if (provides.isEmpty()) {
-            content.with(em("none"));
-        } else {
-            var ul = ul();
-            provides.stream().map(Service::getService)
-                    .map(TagCreator::code)
-                    .map(TagCreator::li)
-                    .forEach(ul::with);
-            content.with(ul);
+        Fragment() {
+            super(OutputStream.nullOutputStream());
         }
-    }
-
-    @Override
-    public void renderReferencedServices(List<ServiceReference> references) {
-        content.with(h4(new Text("Referenced (injected) Services ("), em("emphasized if required"), new Text("): ")));
 
-        if (references.isEmpty()) {
-            content.with(em("none"));
-        } else {
-            var ul = ul();
-            references.stream()
-                    .map(service -> {
-                        var code = code(service.getService());
-                        return service.isRequired() ? em(code) : code;
-                    })
-                    .map(TagCreator::li)
-                    .forEach(ul::with);
-            content.with(ul);
+        @Override
+        protected void appendContent(DomContent... tags) {
+            for (var tag : tags) {
+                contentHtml.append(tag.render());
+            }
         }
-    }
 
-    @Override
-    public OutputStream finalizeRendering() {
-        try {
-            var html = html()
-                    .with(head)
-                    .with(body().with(section(nav().with(menu), content)));
-            outputStream.write(html.render().getBytes(StandardCharsets.UTF_8));
-        } catch (IOException e) {
-            throw new ManifestConverterException(e);
+        @Override
+        protected void appendMenuItem(DomContent item) {
+            menuHtml.append(item.render());
         }
-        return outputStream;
-    }
-
-    @Nullable
-    private CodeTag codeOrNull(Long value) {
-        return Optional.ofNullable(value).map(Object::toString).map(TagCreator::code).orElse(null);
-    }
-
-    @Nullable
-    private CodeTag codeOrNull(String value) {
-        return Optional.ofNullable(value).map(TagCreator::code).orElse(null);
     }
 }
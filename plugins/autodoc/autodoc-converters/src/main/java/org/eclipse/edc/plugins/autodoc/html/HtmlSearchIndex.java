@@ -0,0 +1,172 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.plugins.autodoc.html;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.plugins.autodoc.spi.ManifestConverterException;
+import org.eclipse.edc.runtime.metamodel.domain.ConfigurationSetting;
+import org.eclipse.edc.runtime.metamodel.domain.EdcModule;
+import org.eclipse.edc.runtime.metamodel.domain.EdcServiceExtension;
+import org.eclipse.edc.runtime.metamodel.domain.Service;
+import org.eclipse.edc.runtime.metamodel.domain.ServiceReference;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+/**
+ * An inverted index over the rendered modules, which lets the HTML document be searched without scanning the DOM. It maps
+ * the tokens of setting keys, setting descriptions, service types and extension class names to the anchors of the modules
+ * that contain them.
+ * <p>
+ * The index is written as a script that assigns the variable {@code autodocSearchIndex}, so that the document can load it
+ * with a {@code script} element, also when it is opened from the file system. The variable holds:
+ * <ul>
+ *     <li>{@code modules}: the module anchors, in the order in which they were added</li>
+ *     <li>{@code tokens}: the sorted tokens separated by {@code |}, each one front-coded as
+ *     {@code <length of the prefix shared with the previous token>:<rest of the token>}</li>
+ *     <li>{@code postings}: for every token, the ascending indices of its modules separated by {@code |}, each one
+ *     delta-encoded in base 36 and separated by {@code ,}</li>
+ * </ul>
+ * Since the tokens are sorted, all tokens that start with a prefix are adjacent, and can be found with a binary search.
+ */
+public class HtmlSearchIndex {
+    public static final String VARIABLE = "autodocSearchIndex";
+
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^a-z0-9]+");
+    private static final Pattern CAMEL_CASE = Pattern.compile("(?<=[a-z0-9])(?=[A-Z])");
+    private static final Pattern IDENTIFIER = Pattern.compile("[a-z0-9._-]+");
+    private static final int MIN_TOKEN_LENGTH = 2;
+
+    private final ObjectMapper objectMapper;
+    private final List<String> modules = new ArrayList<>();
+    private final Map<String, Integer> moduleIndices = new LinkedHashMap<>();
+    private final TreeMap<String, TreeSet<Integer>> postings = new TreeMap<>();
+
+    public HtmlSearchIndex(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Adds the tokens of a module to the index.
+     */
+    public void add(EdcModule module) {
+        var anchor = AbstractHtmlManifestRenderer.anchor(module.getModulePath());
+        var moduleIndex = moduleIndices.computeIfAbsent(anchor, key -> {
+            modules.add(key);
+            return modules.size() - 1;
+        });
+
+        addIdentifier(moduleIndex, module.getModulePath());
+        module.getExtensionPoints().stream().map(Service::getService).forEach(service -> addIdentifier(moduleIndex, service));
+
+        for (EdcServiceExtension extension : module.getExtensions()) {
+            addIdentifier(moduleIndex, extension.getClassName());
+            extension.getProvides().stream().map(Service::getService).forEach(service -> addIdentifier(moduleIndex, service));
+            extension.getReferences().stream().map(ServiceReference::getService).forEach(service -> addIdentifier(moduleIndex, service));
+            for (ConfigurationSetting setting : extension.getConfiguration()) {
+                addIdentifier(moduleIndex, setting.getKey());
+                addWords(moduleIndex, setting.getDescription());
+            }
+        }
+    }
+
+    /**
+     * Writes the index as a UTF-8 script.
+     */
+    public void write(OutputStream outputStream) {
+        var tokens = new StringBuilder();
+        var moduleLists = new StringBuilder();
+        var previous = "";
+        for (var entry : postings.entrySet()) {
+            if (!tokens.isEmpty()) {
+                tokens.append('|');
+                moduleLists.append('|');
+            }
+            var token = entry.getKey();
+            var prefixLength = commonPrefixLength(previous, token);
+            tokens.append(prefixLength).append(':').append(token, prefixLength, token.length());
+            previous = token;
+
+            var last = 0;
+            var separator = "";
+            for (var moduleIndex : entry.getValue()) {
+                moduleLists.append(separator).append(Integer.toString(moduleIndex - last, Character.MAX_RADIX));
+                separator = ",";
+                last = moduleIndex;
+            }
+        }
+
+        var index = new LinkedHashMap<String, Object>();
+        index.put("modules", modules);
+        index.put("tokens", tokens.toString());
+        index.put("postings", moduleLists.toString());
+        try {
+            var json = objectMapper.writeValueAsString(index);
+            outputStream.write(("var " + VARIABLE + " = " + json + ";\n").getBytes(StandardCharsets.UTF_8));
+            outputStream.flush();
+        } catch (IOException e) {
+            throw new ManifestConverterException(e);
+        }
+    }
+
+    /**
+     * Adds an identifier as a whole, and each of its dot-, dash- or camel-case separated words.
+     */
+    private void addIdentifier(int moduleIndex, @Nullable String identifier) {
+        if (identifier == null) {
+            return;
+        }
+        var lowerCase = identifier.toLowerCase(Locale.ROOT);
+        if (IDENTIFIER.matcher(lowerCase).matches()) {
+            addToken(moduleIndex, lowerCase);
+        }
+        addWords(moduleIndex, CAMEL_CASE.matcher(identifier).replaceAll(" "));
+        addWords(moduleIndex, identifier);
+    }
+
+    private void addWords(int moduleIndex, @Nullable String text) {
+        if (text == null) {
+            return;
+        }
+        for (var word : WORD_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            addToken(moduleIndex, word);
+        }
+    }
+
+    private void addToken(int moduleIndex, String token) {
+        if (token.length() >= MIN_TOKEN_LENGTH) {
+            postings.computeIfAbsent(token, key -> new TreeSet<>()).add(moduleIndex);
+        }
+    }
+
+    private static int commonPrefixLength(String first, String second) {
+        var length = Math.min(first.length(), second.length());
+        var index = 0;
+        while (index < length && first.charAt(index) == second.charAt(index)) {
+            index++;
+        }
+        return index;
+    }
+}
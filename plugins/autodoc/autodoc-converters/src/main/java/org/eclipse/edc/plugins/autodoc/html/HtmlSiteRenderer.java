@@ -0,0 +1,201 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.plugins.autodoc.html;
+
+import j2html.tags.DomContent;
+import org.eclipse.edc.plugins.autodoc.spi.ManifestConverterException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import static j2html.TagCreator.a;
+import static j2html.TagCreator.code;
+import static j2html.TagCreator.head;
+import static j2html.TagCreator.li;
+import static j2html.TagCreator.link;
+import static j2html.TagCreator.meta;
+import static j2html.TagCreator.title;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Renders a manifest as a set of small HTML pages in a directory, instead of a single document:
+ * <ul>
+ *     <li>one page per module, named after the module path</li>
+ *     <li>an {@value #INDEX_PAGE} that links to all module pages</li>
+ *     <li>a shared {@value #STYLESHEET}, which browsers cache across pages</li>
+ * </ul>
+ * Files are only written if their content changed, so unchanged pages keep their modification time, and pages of modules that
+ * are no longer part of the manifest are deleted. The renderer does not implement
+ * {@link org.eclipse.edc.plugins.autodoc.spi.FragmentRenderer}, because a fragment does not know the page it belongs to.
+ */
+public class HtmlSiteRenderer extends AbstractHtmlManifestRenderer {
+    public static final String INDEX_PAGE = "index.html";
+    public static final String STYLESHEET = "style.css";
+    private static final String PAGE_SUFFIX = ".html";
+    private final Path directory;
+    private final Set<String> pages = new HashSet<>();
+    private final StringBuilder page = new StringBuilder();
+    private Path indexFile;
+    private Writer index;
+    private String pageName;
+
+    public HtmlSiteRenderer(Path directory) {
+        super(OutputStream.nullOutputStream());
+        this.directory = directory;
+    }
+
+    /**
+     * The name of the page of a module, which is the module path with the separator {@code :} replaced by {@code _}, and all
+     * other characters that are not letters, digits, {@code .} or {@code -} escaped as {@code ~} followed by four hex digits.
+     * The encoding is injective, so different module paths never share a page, e.g. {@code org.example:module-a} and
+     * {@code org.example-module:a} become {@code org.example_module-a.html} and {@code org.example-module_a.html}.
+     */
+    public static String pageName(String modulePath) {
+        var name = new StringBuilder(modulePath.length() + PAGE_SUFFIX.length());
+        for (var i = 0; i < modulePath.length(); i++) {
+            var c = modulePath.charAt(i);
+            if (c == ':') {
+                name.append('_');
+            } else if (c < 128 && (Character.isLetterOrDigit(c) || c == '.' || c == '-')) {
+                name.append(c);
+            } else {
+                name.append('~').append(String.format("%04x", (int) c));
+            }
+        }
+        return name.append(PAGE_SUFFIX).toString();
+    }
+
+    @Override
+    public void renderDocumentHeader() {
+        start();
+    }
+
+    @Override
+    public void renderModuleHeading(@Nullable String moduleName, @NotNull String modulePath, @NotNull String version) {
+        start();
+        finishPage();
+
+        var artifactId = anchor(modulePath);
+        pageName = pageName(modulePath);
+        page.append("<html>")
+                .append(head(meta().withCharset("utf-8"), title(artifactId), link().withRel("stylesheet").withHref(STYLESHEET)).render())
+                .append("<body><nav>").append(a("All modules").withHref(INDEX_PAGE).render()).append("</nav><article>");
+        write(index, li(a(artifactId).withHref(pageName), code(modulePath + ":" + version)).render());
+
+        super.renderModuleHeading(moduleName, modulePath, version);
+    }
+
+    @Override
+    public OutputStream finalizeRendering() {
+        start();
+        finishPage();
+        try {
+            index.write("</ul></article></body></html>");
+            index.close();
+            replaceIfChanged(indexFile, directory.resolve(INDEX_PAGE));
+            deleteStalePages();
+        } catch (IOException e) {
+            throw new ManifestConverterException(e);
+        }
+        return OutputStream.nullOutputStream();
+    }
+
+    @Override
+    protected void appendContent(DomContent... tags) {
+        for (var tag : tags) {
+            page.append(tag.render());
+        }
+    }
+
+    /**
+     * The index lists the modules itself, with links to their pages.
+     */
+    @Override
+    protected void appendMenuItem(DomContent item) {
+    }
+
+    private void start() {
+        if (index != null) {
+            return;
+        }
+        try {
+            Files.createDirectories(directory);
+            writeIfChanged(directory.resolve(STYLESHEET), readStyle().getBytes(UTF_8));
+            indexFile = Files.createTempFile(directory, "index", ".tmp");
+            index = Files.newBufferedWriter(indexFile, UTF_8);
+            index.write("<html>" + head(meta().withCharset("utf-8"), title("Modules"), link().withRel("stylesheet").withHref(STYLESHEET)).render());
+            index.write("<body><article><h1>Modules</h1><ul>");
+        } catch (IOException e) {
+            throw new ManifestConverterException(e);
+        }
+    }
+
+    private void finishPage() {
+        if (pageName != null) {
+            page.append("</article></body></html>");
+            writeIfChanged(directory.resolve(pageName), page.toString().getBytes(UTF_8));
+            pages.add(pageName);
+        }
+        page.setLength(0);
+        pageName = null;
+    }
+
+    private void writeIfChanged(Path file, byte[] content) {
+        try {
+            if (Files.isRegularFile(file) && Arrays.equals(Files.readAllBytes(file), content)) {
+                return;
+            }
+            Files.write(file, content);
+        } catch (IOException e) {
+            throw new ManifestConverterException(e);
+        }
+    }
+
+    private void replaceIfChanged(Path source, Path target) throws IOException {
+        if (Files.isRegularFile(target) && Files.mismatch(source, target) == -1) {
+            Files.delete(source);
+        } else {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private void deleteStalePages() throws IOException {
+        try (var files = Files.list(directory)) {
+            for (var file : files.toList()) {
+                var name = file.getFileName().toString();
+                if (name.endsWith(PAGE_SUFFIX) && !name.equals(INDEX_PAGE) && !pages.contains(name)) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+
+    private void write(Writer writer, String content) {
+        try {
+            writer.write(content);
+        } catch (IOException e) {
+            throw new ManifestConverterException(e);
+        }
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.plugins.autodoc.html;
+
+import j2html.tags.DomContent;
+import org.eclipse.edc.plugins.autodoc.spi.ManifestConverterException;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static j2html.TagCreator.input;
+import static j2html.TagCreator.rawHtml;
+import static j2html.TagCreator.script;
+import static j2html.TagCreator.style;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Renders the same document as {@link HtmlManifestRenderer}, but writes every tag to a buffered UTF-8 writer as soon as it is
+ * rendered, instead of building the whole document in memory. The peak memory usage therefore does not depend on the size of
+ * the manifest.
+ * <p>
+ * The navigation menu is spooled to a file while the modules are rendered, and appended after the content when the rendering
+ * is finalized. The spool file is deleted when the rendering is finalized, also if that fails. If a spool directory is given,
+ * the spool file always has the same name in it, so a rendering that is aborted before it is finalized leaves at most one
+ * spool file behind, which the next rendering overwrites. The stylesheet lays out the section as a flex box, so the menu is still displayed on the left.
+ * <p>
+ * If a search index is given, the document loads it, and adds a search field above the menu that filters the menu entries,
+ * see {@link HtmlSearchIndex}.
+ */
+public class StreamingHtmlManifestRenderer extends HtmlManifestRenderer {
+    private static final String MENU_FILE_NAME = "autodoc-menu.html";
+    private final OutputStream outputStream;
+    private final Writer writer;
+    @Nullable
+    private final String searchIndex;
+    @Nullable
+    private final Path spoolDirectory;
+    private Path menuFile;
+    private Writer menu;
+
+    public StreamingHtmlManifestRenderer(OutputStream outputStream) {
+        this(outputStream, null);
+    }
+
+    /**
+     * Creates a renderer whose document can be searched.
+     *
+     * @param outputStream the stream the document is written to
+     * @param searchIndex  the URI of the search index script relative to the document, or null if there is no search index
+     */
+    public StreamingHtmlManifestRenderer(OutputStream outputStream, @Nullable String searchIndex) {
+        this(outputStream, searchIndex, null);
+    }
+
+    /**
+     * Creates a renderer whose document can be searched, and which spools the menu into the given directory.
+     *
+     * @param outputStream   the stream the document is written to
+     * @param searchIndex    the URI of the search index script relative to the document, or null if there is no search index
+     * @param spoolDirectory the directory of the menu spool file, or null to use a file in the system temporary directory
+     */
+    public StreamingHtmlManifestRenderer(OutputStream outputStream, @Nullable String searchIndex, @Nullable Path spoolDirectory) {
+        super(outputStream);
+        this.outputStream = outputStream;
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, UTF_8));
+        this.searchIndex = searchIndex;
+        this.spoolDirectory = spoolDirectory;
+    }
+
+    @Override
+    public void renderDocumentHeader() {
+        var head = style(readStyle()).render();
+        if (searchIndex != null) {
+            head += script().withSrc(searchIndex).render() + script(rawHtml(readResource("search.js"))).render();
+        }
+        start(head);
+    }
+
+    @Override
+    public OutputStream finalizeRendering() {
+        start("");
+        try {
+            menu.close();
+            writer.write("</article><nav>");
+            if (searchIndex != null) {
+                writer.write(input().withType("search").withId("autodoc-search").attr("placeholder", "Search").render());
+            }
+            writer.write("<ul>");
+            try (var reader = Files.newBufferedReader(menuFile, UTF_8)) {
+                reader.transferTo(writer);
+            }
+            writer.write("</ul></nav></section></body></html>");
+            writer.flush();
+        } catch (IOException e) {
+            throw new ManifestConverterException(e);
+        } finally {
+            deleteMenu();
+        }
+        return outputStream;
+    }
+
+    @Override
+    protected void appendContent(DomContent... tags) {
+        start("");
+        try {
+            for (var tag : tags) {
+                writer.write(tag.render());
+            }
+        } catch (IOException e) {
+            throw new ManifestConverterException(e);
+        }
+    }
+
+    @Override
+    protected void appendMenuItem(DomContent item) {
+        start("");
+        try {
+            menu.write(item.render());
+        } catch (IOException e) {
+            throw new ManifestConverterException(e);
+        }
+    }
+
+    /**
+     * Writes the beginning of the document up to the content, unless it was written already.
+     *
+     * @param head the content of the {@code head} element
+     */
+    private void start(String head) {
+        if (menu != null) {
+            return;
+        }
+        try {
+            menuFile = spoolDirectory != null
+                    ? Files.createDirectories(spoolDirectory).resolve(MENU_FILE_NAME)
+                    : Files.createTempFile("autodoc-menu", ".html");
+            menu = Files.newBufferedWriter(menuFile, UTF_8);
+            writer.write("<html><head>" + head + "</head><body><section class=\"streamed\"><article>");
+        } catch (IOException e) {
+            throw new ManifestConverterException(e);
+        }
+    }
+
+    /**
+     * Deletes the spool file. Failures are ignored, so that they do not hide the failure of the rendering.
+     */
+    private void deleteMenu() {
+        try {
+            menu.close();
+            Files.deleteIfExists(menuFile);
+        } catch (IOException ignored) {
+            // the spool file is overwritten by the next rendering into the same spool directory
+        }
+    }
+}
@@ -14,6 +14,9 @@
 
 package org.eclipse.edc.plugins.autodoc.json;
 
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.eclipse.edc.plugins.autodoc.spi.ManifestConverterException;
@@ -24,7 +27,13 @@ import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class JsonManifestReader implements ManifestReader {
     private static final TypeReference<List<EdcModule>> MODULE_TYPE_REF = new TypeReference<>() {
@@ -43,4 +52,75 @@ public class JsonManifestReader implements ManifestReader {
             throw new ManifestConverterException(e);
         }
     }
+
+    /**
+     * Binds one module at a time with Jackson's streaming parser, so only the module that is currently processed is held in
+     * memory. Parsing errors are thrown as {@link ManifestConverterException} while the stream is consumed.
+     */
+    @Override
+    public Stream<EdcModule> stream(InputStream inputStream) {
+        try {
+            var parser = objectMapper.getFactory().createParser(new BufferedInputStream(inputStream));
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                var exception = new JsonParseException(parser, "The manifest does not contain an array of modules");
+                parser.close();
+                throw new ManifestConverterException(exception);
+            }
+            var spliterator = Spliterators.spliteratorUnknownSize(new ModuleIterator(parser), Spliterator.ORDERED | Spliterator.NONNULL);
+            return StreamSupport.stream(spliterator, false).onClose(() -> close(parser));
+        } catch (IOException e) {
+            throw new ManifestConverterException(e);
+        }
+    }
+
+    private void close(JsonParser parser) {
+        try {
+            parser.close();
+        } catch (IOException e) {
+            throw new ManifestConverterException(e);
+        }
+    }
+
+    /**
+     * Iterates over the elements of the array that the parser is positioned on.
+     */
+    private class ModuleIterator implements Iterator<EdcModule> {
+        private final JsonParser parser;
+        private JsonToken next;
+
+        ModuleIterator(JsonParser parser) {
+            this.parser = parser;
+        }
+
+        @Override
+        public boolean hasNext() {
+            try {
+                if (next == null) {
+                    next = parser.nextToken();
+                }
+                if (next == JsonToken.START_OBJECT) {
+                    return true;
+                }
+                if (next == JsonToken.END_ARRAY) {
+                    return false;
+                }
+                throw new ManifestConverterException(new JsonParseException(parser, "Expected a module, but found " + next));
+            } catch (IOException e) {
+                throw new ManifestConverterException(e);
+            }
+        }
+
+        @Override
+        public EdcModule next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            try {
+                next = null;
+                return objectMapper.readValue(parser, EdcModule.class);
+            } catch (IOException e) {
+                throw new ManifestConverterException(e);
+            }
+        }
+    }
 }
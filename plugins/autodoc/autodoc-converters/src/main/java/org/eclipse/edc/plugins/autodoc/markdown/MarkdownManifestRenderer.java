@@ -17,6 +17,7 @@ package org.eclipse.edc.plugins.autodoc.markdown;
 import net.steppschuh.markdowngenerator.Markdown;
 import net.steppschuh.markdowngenerator.MarkdownElement;
 import net.steppschuh.markdowngenerator.table.Table;
+import org.eclipse.edc.plugins.autodoc.spi.FragmentRenderer;
 import org.eclipse.edc.plugins.autodoc.spi.ManifestConverterException;
 import org.eclipse.edc.plugins.autodoc.spi.ManifestRenderer;
 import org.eclipse.edc.runtime.metamodel.domain.ConfigurationSetting;
@@ -42,9 +43,14 @@ import static net.steppschuh.markdowngenerator.Markdown.heading;
 import static net.steppschuh.markdowngenerator.Markdown.italic;
 import static net.steppschuh.markdowngenerator.Markdown.unorderedList;
 
-public class MarkdownManifestRenderer implements ManifestRenderer {
+/**
+ * Renders a manifest as a Markdown document. The document is built in memory and written when the rendering is finalized, see
+ * {@link StreamingMarkdownManifestRenderer} for a renderer that writes each module as soon as it is rendered.
+ */
+public class MarkdownManifestRenderer implements FragmentRenderer {
 
-    private static final String NEWLINE = System.lineSeparator();
+    protected static final String NEWLINE = System.lineSeparator();
+    protected static final Object[] CONFIGURATION_HEADER = { "Key", "Required", "Type", "Default", "Pattern", "Min", "Max", "Description" };
     private final OutputStream output;
     private final StringBuilder stringBuilder;
 
@@ -116,16 +122,11 @@ public class MarkdownManifestRenderer implements ManifestRenderer {
 
     @Override
     public void renderConfigurations(List<ConfigurationSetting> configuration) {
-        var tableBuilder = new Table.Builder()
-                .addRow("Key", "Required", "Type", "Default", "Pattern", "Min", "Max", "Description");
-
-        configuration.stream()
-                .map(this::renderConfigurationSetting)
-                .forEach(tableBuilder::addRow);
-
         stringBuilder.append(heading("Configuration", 3));
         if (!configuration.isEmpty()) {
-            stringBuilder.append(NEWLINE).append(NEWLINE).append(tableBuilder.build()).append(NEWLINE);
+            stringBuilder.append(NEWLINE).append(NEWLINE);
+            appendConfigurationTable(stringBuilder, configuration);
+            stringBuilder.append(NEWLINE);
         } else {
             stringBuilder.append(italic(NONE)).append(NEWLINE);
         }
@@ -148,15 +149,61 @@ public class MarkdownManifestRenderer implements ManifestRenderer {
 
     @Override
     public OutputStream finalizeRendering() {
+        writeBuffer();
+        return output;
+    }
+
+    @Override
+    public ManifestRenderer createFragmentRenderer() {
+        return new MarkdownManifestRenderer(OutputStream.nullOutputStream());
+    }
+
+    @Override
+    public void appendFragment(ManifestRenderer fragment) {
+        stringBuilder.append(((MarkdownManifestRenderer) fragment).stringBuilder);
+    }
+
+    @Override
+    public byte[] encodeFragment(ManifestRenderer fragment) {
+        return ((MarkdownManifestRenderer) fragment).stringBuilder.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public ManifestRenderer decodeFragment(byte[] encoded) {
+        var fragment = (MarkdownManifestRenderer) createFragmentRenderer();
+        fragment.stringBuilder.append(new String(encoded, StandardCharsets.UTF_8));
+        return fragment;
+    }
+
+    /**
+     * Writes the content that was rendered so far to the output stream, and clears the buffer.
+     */
+    protected void writeBuffer() {
         try {
             output.write(stringBuilder.toString().getBytes(StandardCharsets.UTF_8));
         } catch (IOException e) {
             throw new ManifestConverterException(e);
         }
-        return output;
+        stringBuilder.setLength(0);
+    }
+
+    /**
+     * Appends the table of the configuration settings of an extension, without a trailing newline.
+     *
+     * @param builder       the buffer of the document
+     * @param configuration the settings, not empty
+     */
+    protected void appendConfigurationTable(StringBuilder builder, List<ConfigurationSetting> configuration) {
+        var tableBuilder = new Table.Builder().addRow(CONFIGURATION_HEADER);
+
+        configuration.stream()
+                .map(this::renderConfigurationSetting)
+                .forEach(tableBuilder::addRow);
+
+        builder.append(tableBuilder.build());
     }
 
-    private Object @NotNull [] renderConfigurationSetting(ConfigurationSetting setting) {
+    protected Object @NotNull [] renderConfigurationSetting(ConfigurationSetting setting) {
         return Stream.of(
                         setting.isDeprecated() ? Markdown.strikeThrough(setting.getKey()) : code(setting.getKey()),
                         setting.isRequired() ? code("*") : null,
@@ -0,0 +1,106 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.plugins.autodoc.markdown;
+
+import org.eclipse.edc.plugins.autodoc.spi.ManifestRenderer;
+import org.eclipse.edc.runtime.metamodel.domain.ConfigurationSetting;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Renders the same document as {@link MarkdownManifestRenderer}, byte for byte, but writes every module to the output stream as
+ * soon as the next one begins, so only a single module is buffered at a time.
+ * <p>
+ * Configuration tables are appended row by row, in the format of the markdown-gen {@code Table}: the column widths are
+ * computed in a first pass over the settings, and the padded rows are written in a second one, without building the table.
+ */
+public class StreamingMarkdownManifestRenderer extends MarkdownManifestRenderer {
+    private static final int MINIMUM_COLUMN_WIDTH = 3; // identical to the default of markdown-gen's Table
+    private static final String TRIMMING_INDICATOR = "~"; // identical to the default of markdown-gen's Table
+    private static final String SEPARATOR = "|";
+    private static final String WHITESPACE = " ";
+
+    public StreamingMarkdownManifestRenderer(OutputStream output) {
+        super(output);
+    }
+
+    @Override
+    public void renderModuleHeading(@Nullable String moduleName, @NotNull String modulePath, @NotNull String version) {
+        writeBuffer();
+        super.renderModuleHeading(moduleName, modulePath, version);
+    }
+
+    @Override
+    public ManifestRenderer createFragmentRenderer() {
+        return new StreamingMarkdownManifestRenderer(OutputStream.nullOutputStream());
+    }
+
+    /**
+     * Writes the fragment to the output stream right away, the buffer only ever holds the module that is currently rendered.
+     */
+    @Override
+    public void appendFragment(ManifestRenderer fragment) {
+        writeBuffer();
+        super.appendFragment(fragment);
+        writeBuffer();
+    }
+
+    @Override
+    protected void appendConfigurationTable(StringBuilder builder, List<ConfigurationSetting> configuration) {
+        var widths = new int[CONFIGURATION_HEADER.length];
+        Arrays.fill(widths, MINIMUM_COLUMN_WIDTH);
+        updateWidths(widths, CONFIGURATION_HEADER);
+        configuration.forEach(setting -> updateWidths(widths, renderConfigurationSetting(setting)));
+
+        appendRow(builder, widths, CONFIGURATION_HEADER);
+        builder.append(NEWLINE);
+        appendHeaderSeparator(builder, widths);
+        for (var setting : configuration) {
+            builder.append(NEWLINE);
+            appendRow(builder, widths, renderConfigurationSetting(setting));
+        }
+    }
+
+    private void updateWidths(int[] widths, Object[] cells) {
+        for (var column = 0; column < widths.length; column++) {
+            widths[column] = Math.max(widths[column], cell(cells, column).length());
+        }
+    }
+
+    private void appendRow(StringBuilder builder, int[] widths, Object[] cells) {
+        for (var column = 0; column < widths.length; column++) {
+            var value = cell(cells, column);
+            var fill = value.equals(TRIMMING_INDICATOR) ? TRIMMING_INDICATOR : WHITESPACE;
+            builder.append(SEPARATOR).append(WHITESPACE).append(value).append(fill.repeat(widths[column] - value.length())).append(WHITESPACE);
+        }
+        builder.append(SEPARATOR);
+    }
+
+    private void appendHeaderSeparator(StringBuilder builder, int[] widths) {
+        for (var width : widths) {
+            builder.append(SEPARATOR).append(WHITESPACE).append("-".repeat(width)).append(WHITESPACE);
+        }
+        builder.append(SEPARATOR);
+    }
+
+    private String cell(Object[] cells, int column) {
+        var value = column < cells.length ? cells[column] : null;
+        return value == null ? "" : value.toString();
+    }
+}
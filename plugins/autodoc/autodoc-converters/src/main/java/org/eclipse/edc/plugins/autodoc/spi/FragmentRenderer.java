@@ -0,0 +1,55 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.plugins.autodoc.spi;
+
+/**
+ * A {@link ManifestRenderer} that can render modules into fragments of the document. Fragments are rendered independently of
+ * this renderer, and can therefore be rendered concurrently, or be taken from a {@link ManifestFragmentCache}. They are then
+ * added to the document in document order. The {@link ManifestWriter} uses fragments for renderers that implement this
+ * interface, all other renderers are always invoked sequentially.
+ */
+public interface FragmentRenderer extends ManifestRenderer {
+
+    /**
+     * Creates a renderer for a fragment of the document, which buffers the rendering of a single module. The document header
+     * is never rendered into a fragment, and a fragment is never finalized.
+     *
+     * @return the fragment renderer
+     */
+    ManifestRenderer createFragmentRenderer();
+
+    /**
+     * Adds a fragment to the document, as if its module had been rendered by this renderer.
+     *
+     * @param fragment A renderer that was created by {@link #createFragmentRenderer()}, and has rendered one module.
+     */
+    void appendFragment(ManifestRenderer fragment);
+
+    /**
+     * Encodes a fragment, so that it can be stored, e.g. in a {@link ManifestFragmentCache}.
+     *
+     * @param fragment A renderer that was created by {@link #createFragmentRenderer()}, and has rendered one module.
+     * @return the encoded fragment
+     */
+    byte[] encodeFragment(ManifestRenderer fragment);
+
+    /**
+     * Restores a fragment that was encoded by {@link #encodeFragment(ManifestRenderer)}.
+     *
+     * @param encoded the encoded fragment
+     * @return a fragment that can be passed to {@link #appendFragment(ManifestRenderer)}
+     */
+    ManifestRenderer decodeFragment(byte[] encoded);
+}
@@ -0,0 +1,42 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.plugins.autodoc.spi;
+
+import org.eclipse.edc.runtime.metamodel.domain.EdcModule;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Stores the rendered fragments of modules, see {@link FragmentRenderer#encodeFragment(ManifestRenderer)}, so that a module
+ * whose content did not change is not rendered again. Implementations must be threadsafe, because modules may be rendered
+ * concurrently.
+ */
+public interface ManifestFragmentCache {
+
+    /**
+     * Returns the fragment that was stored for a module with the same content, or null if there is none.
+     *
+     * @param module the module
+     * @return the encoded fragment, or null
+     */
+    byte @Nullable [] get(EdcModule module);
+
+    /**
+     * Stores the fragment of a module.
+     *
+     * @param module   the module
+     * @param fragment the encoded fragment
+     */
+    void put(EdcModule module, byte[] fragment);
+}
@@ -18,6 +18,7 @@ import org.eclipse.edc.runtime.metamodel.domain.EdcModule;
 
 import java.io.InputStream;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Reads a manifest file, which contains a {@link List} of {@link EdcModule}. Implementations are file-format specific.
@@ -29,4 +30,18 @@ public interface ManifestReader {
      * @param inputStream The input
      */
     List<EdcModule> read(InputStream inputStream);
+
+    /**
+     * Reads an input stream lazily, one module at a time, in the order in which they appear in the input. Implementations should
+     * not materialize the whole manifest, so that very large manifests can be processed with a bounded heap. The default
+     * implementation reads the manifest in full.
+     * <p>
+     * The returned stream must be closed, which also closes the input stream.
+     *
+     * @param inputStream The input
+     * @return the modules of the manifest
+     */
+    default Stream<EdcModule> stream(InputStream inputStream) {
+        return read(inputStream).stream();
+    }
 }
@@ -14,25 +14,89 @@
 
 package org.eclipse.edc.plugins.autodoc.spi;
 
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.eclipse.edc.runtime.metamodel.domain.EdcModule;
 import org.eclipse.edc.runtime.metamodel.domain.EdcServiceExtension;
+import org.jetbrains.annotations.Nullable;
 
+import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.PriorityQueue;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static java.util.Comparator.comparing;
 
 /**
  * Reads any input to a manifest, which is represented as {@link List} of {@link EdcModule}.
  * All model objects are delegated down to implementors using callbacks.
+ * <p>
+ * Manifests that are too large to be held in memory are converted from a file with {@link #convert(ManifestReader, Path)},
+ * which sorts the modules externally and only keeps a bounded batch of modules in memory.
+ * <p>
+ * In parallel mode, the modules of each batch are rendered concurrently on the common fork-join pool, each into its own
+ * fragment of the document, see {@link FragmentRenderer}. The fragments are appended in the order of the module paths, so
+ * the document is identical to the one that is rendered sequentially. Renderers that do not implement
+ * {@link FragmentRenderer} are always invoked sequentially.
+ * <p>
+ * If a {@link ManifestFragmentCache} is given, the fragments of modules whose content did not change are taken from the cache
+ * instead of being rendered again.
  */
 public class ManifestWriter {
+    public static final int DEFAULT_BATCH_SIZE = 256;
+    private static final ObjectMapper RUN_MAPPER = new ObjectMapper();
 
     private final ManifestRenderer renderer;
+    private final int batchSize;
+    private final boolean parallel;
+    private final ManifestFragmentCache fragmentCache;
 
     public ManifestWriter(ManifestRenderer renderer) {
+        this(renderer, DEFAULT_BATCH_SIZE);
+    }
+
+    public ManifestWriter(ManifestRenderer renderer, int batchSize) {
+        this(renderer, batchSize, false);
+    }
+
+    /**
+     * Creates a writer.
+     *
+     * @param renderer  the renderer that the model objects are delegated to
+     * @param batchSize the maximum number of modules that are held in memory when a manifest is converted from a file, and
+     *                  the number of modules that are rendered concurrently in parallel mode
+     * @param parallel  whether the modules are rendered concurrently
+     */
+    public ManifestWriter(ManifestRenderer renderer, int batchSize, boolean parallel) {
+        this(renderer, batchSize, parallel, null);
+    }
+
+    /**
+     * Creates a writer.
+     *
+     * @param renderer      the renderer that the model objects are delegated to
+     * @param batchSize     the maximum number of modules that are held in memory when a manifest is converted from a file, and
+     *                      the number of modules that are rendered concurrently in parallel mode
+     * @param parallel      whether the modules are rendered concurrently
+     * @param fragmentCache the cache of rendered modules, may be null
+     */
+    public ManifestWriter(ManifestRenderer renderer, int batchSize, boolean parallel, @Nullable ManifestFragmentCache fragmentCache) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("The batch size must be positive, but was " + batchSize);
+        }
         this.renderer = renderer;
+        this.batchSize = batchSize;
+        this.parallel = parallel;
+        this.fragmentCache = fragmentCache;
     }
 
     public OutputStream convert(List<EdcModule> input) {
@@ -40,40 +104,214 @@ public class ManifestWriter {
         return renderer.finalizeRendering();
     }
 
+    /**
+     * Converts a manifest file in bounded memory, rendering the modules sorted by their module path, like
+     * {@link #convert(List)} does.
+     * <p>
+     * Manifests are not necessarily sorted, e.g. the merged manifest of a multi-project build lists the modules in the order
+     * in which their projects were built. The modules are therefore sorted externally: the manifest is streamed once, and every
+     * {@code batchSize} modules are sorted and spilled as a run to a temporary file. The runs are then merged, holding only the
+     * current module of each run in memory. A manifest that fits into a single batch is rendered without temporary files.
+     *
+     * @param reader   the reader that streams the modules of the manifest
+     * @param manifest the manifest file
+     */
+    public OutputStream convert(ManifestReader reader, Path manifest) {
+        var batch = new ArrayList<EdcModule>(batchSize);
+        var runs = new ArrayList<Path>();
+        try {
+            try (var modules = open(reader, manifest)) {
+                modules.forEachOrdered(module -> {
+                    batch.add(module);
+                    if (batch.size() == batchSize) {
+                        runs.add(spill(batch));
+                        batch.clear();
+                    }
+                });
+            }
+            renderer.renderDocumentHeader();
+            if (runs.isEmpty()) {
+                renderModules(batch.stream().sorted(comparing(EdcModule::getModulePath)));
+            } else {
+                if (!batch.isEmpty()) {
+                    runs.add(spill(batch));
+                    batch.clear();
+                }
+                mergeRuns(runs);
+            }
+            return renderer.finalizeRendering();
+        } finally {
+            runs.forEach(this::delete);
+        }
+    }
+
     protected void beginConversion(List<EdcModule> input) {
         renderer.renderDocumentHeader();
-        input.stream().sorted(comparing(EdcModule::getModulePath)).forEach(this::handleModule);
+        renderModules(input.stream().sorted(comparing(EdcModule::getModulePath)));
     }
 
     /**
-     * Delegates one top-level element, which are {@link EdcModule} objects.
+     * Delegates one top-level element, which are {@link EdcModule} objects. Modules are rendered either by the renderer of
+     * this writer, or by a fragment renderer, see {@link FragmentRenderer}, so all callbacks must go to the given renderer.
      * Do not override unless absolutely necessary!
      *
+     * @param target    The renderer the module is rendered by
      * @param edcModule The module to render
      */
-    protected void handleModule(EdcModule edcModule) {
-        renderer.renderModuleHeading(edcModule.getName(), edcModule.getModulePath(), edcModule.getVersion());
+    protected void handleModule(ManifestRenderer target, EdcModule edcModule) {
+        target.renderModuleHeading(edcModule.getName(), edcModule.getModulePath(), edcModule.getVersion());
 
-        renderer.renderCategories(edcModule.getCategories());
+        target.renderCategories(edcModule.getCategories());
 
-        renderer.renderExtensionPoints(edcModule.getExtensionPoints());
+        target.renderExtensionPoints(edcModule.getExtensionPoints());
 
-        handleExtensions(edcModule.getExtensions());
+        handleExtensions(target, edcModule.getExtensions());
     }
 
-    protected void handleExtensions(Set<EdcServiceExtension> extensions) {
-        renderer.renderExtensionHeading();
-        extensions.forEach(this::handleServiceExtension);
+    protected void handleExtensions(ManifestRenderer target, Set<EdcServiceExtension> extensions) {
+        target.renderExtensionHeading();
+        extensions.forEach(extension -> handleServiceExtension(target, extension));
     }
 
-    protected void handleServiceExtension(EdcServiceExtension serviceExtension) {
-        renderer.renderExtensionHeader(serviceExtension.getClassName(), serviceExtension.getName(), serviceExtension.getOverview(), serviceExtension.getType());
+    protected void handleServiceExtension(ManifestRenderer target, EdcServiceExtension serviceExtension) {
+        target.renderExtensionHeader(serviceExtension.getClassName(), serviceExtension.getName(), serviceExtension.getOverview(), serviceExtension.getType());
 
-        renderer.renderConfigurations(serviceExtension.getConfiguration());
+        target.renderConfigurations(serviceExtension.getConfiguration());
 
-        renderer.renderProvidedServices(serviceExtension.getProvides());
+        target.renderProvidedServices(serviceExtension.getProvides());
 
-        renderer.renderReferencedServices(serviceExtension.getReferences());
+        target.renderReferencedServices(serviceExtension.getReferences());
+    }
+
+    private void renderModules(Stream<EdcModule> modules) {
+        if ((!parallel && fragmentCache == null) || !(renderer instanceof FragmentRenderer fragmentRenderer)) {
+            modules.forEachOrdered(module -> handleModule(renderer, module));
+            return;
+        }
+        if (!parallel) {
+            modules.forEachOrdered(module -> fragmentRenderer.appendFragment(renderFragment(fragmentRenderer, module)));
+            return;
+        }
+        var batch = new ArrayList<EdcModule>(batchSize);
+        modules.forEachOrdered(module -> {
+            batch.add(module);
+            if (batch.size() == batchSize) {
+                renderInParallel(fragmentRenderer, batch);
+                batch.clear();
+            }
+        });
+        renderInParallel(fragmentRenderer, batch);
+    }
+
+    private void renderInParallel(FragmentRenderer fragmentRenderer, List<EdcModule> modules) {
+        modules.parallelStream()
+                .map(module -> renderFragment(fragmentRenderer, module))
+                .toList()
+                .forEach(fragmentRenderer::appendFragment);
+    }
+
+    private ManifestRenderer renderFragment(FragmentRenderer fragmentRenderer, EdcModule module) {
+        if (fragmentCache != null) {
+            var cached = fragmentCache.get(module);
+            if (cached != null) {
+                return fragmentRenderer.decodeFragment(cached);
+            }
+        }
+        var fragment = fragmentRenderer.createFragmentRenderer();
+        handleModule(fragment, module);
+        if (fragmentCache != null) {
+            fragmentCache.put(module, fragmentRenderer.encodeFragment(fragment));
+        }
+        return fragment;
+    }
+
+    /**
+     * Sorts the modules and writes them to a temporary file, as a sequence of JSON values.
+     */
+    private Path spill(List<EdcModule> modules) {
+        try {
+            var run = Files.createTempFile("autodoc-run", ".json");
+            try (var writer = RUN_MAPPER.writerFor(EdcModule.class).writeValues(run.toFile())) {
+                for (var module : modules.stream().sorted(comparing(EdcModule::getModulePath)).toList()) {
+                    writer.write(module);
+                }
+            }
+            return run;
+        } catch (IOException e) {
+            throw new ManifestConverterException(e);
+        }
+    }
+
+    /**
+     * Renders the modules of all runs in the order of their module paths. Modules with the same module path are rendered in
+     * the order of their runs, which is the order of the manifest, like the stable sort of {@link #convert(List)}.
+     */
+    private void mergeRuns(List<Path> runs) {
+        var iterators = new ArrayList<MappingIterator<EdcModule>>(runs.size());
+        try {
+            var heads = new PriorityQueue<RunHead>(comparing((RunHead head) -> head.module().getModulePath()).thenComparingInt(RunHead::run));
+            for (var run : runs) {
+                var iterator = RUN_MAPPER.readerFor(EdcModule.class).<EdcModule>readValues(run.toFile());
+                iterators.add(iterator);
+                if (iterator.hasNext()) {
+                    heads.add(new RunHead(iterators.size() - 1, iterator.next()));
+                }
+            }
+            var merged = new Iterator<EdcModule>() {
+                @Override
+                public boolean hasNext() {
+                    return !heads.isEmpty();
+                }
+
+                @Override
+                public EdcModule next() {
+                    var head = heads.remove();
+                    var iterator = iterators.get(head.run());
+                    if (iterator.hasNext()) {
+                        heads.add(new RunHead(head.run(), iterator.next()));
+                    }
+                    return head.module();
+                }
+            };
+            renderModules(StreamSupport.stream(Spliterators.spliteratorUnknownSize(merged, Spliterator.ORDERED), false));
+        } catch (IOException e) {
+            throw new ManifestConverterException(e);
+        } finally {
+            iterators.forEach(this::close);
+        }
+    }
+
+    private Stream<EdcModule> open(ManifestReader reader, Path manifest) {
+        try {
+            return reader.stream(Files.newInputStream(manifest));
+        } catch (IOException e) {
+            throw new ManifestConverterException(e);
+        }
+    }
+
+    private void close(MappingIterator<EdcModule> iterator) {
+        try {
+            iterator.close();
+        } catch (IOException e) {
+            throw new ManifestConverterException(e);
+        }
+    }
+
+    private void delete(Path run) {
+        try {
+            Files.deleteIfExists(run);
+        } catch (IOException e) {
+            throw new ManifestConverterException(e);
+        }
+    }
+
+    /**
+     * The current module of a run, which is the next one to be merged from it.
+     *
+     * @param run    the index of the run
+     * @param module the current module of the run
+     */
+    private record RunHead(int run, EdcModule module) {
     }
 
 }
@@ -0,0 +1,72 @@
+/*
+ * Filters the navigation menu by the prebuilt search index in autodocSearchIndex, see HtmlSearchIndex for its format.
+ * Every whitespace-separated term of the query is a token prefix, and a module is shown if it matches all terms.
+ */
+document.addEventListener("DOMContentLoaded", function () {
+  var input = document.getElementById("autodoc-search");
+  var index = window.autodocSearchIndex;
+  if (!input || !index) {
+    return;
+  }
+
+  var tokens = [];
+  var previous = "";
+  (index.tokens ? index.tokens.split("|") : []).forEach(function (entry) {
+    var separator = entry.indexOf(":");
+    previous = previous.substring(0, parseInt(entry.substring(0, separator), 10)) + entry.substring(separator + 1);
+    tokens.push(previous);
+  });
+  var postings = index.postings.split("|");
+
+  var items = {};
+  document.querySelectorAll("nav li > a").forEach(function (link) {
+    items[link.getAttribute("href").substring(1)] = link.parentElement;
+  });
+
+  function lowerBound(prefix) {
+    var low = 0;
+    var high = tokens.length;
+    while (low < high) {
+      var middle = (low + high) >>> 1;
+      if (tokens[middle] < prefix) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  function search(prefix) {
+    var modules = {};
+    for (var i = lowerBound(prefix); i < tokens.length && tokens[i].lastIndexOf(prefix, 0) === 0; i++) {
+      var module = 0;
+      postings[i].split(",").forEach(function (delta) {
+        module += parseInt(delta, 36);
+        modules[index.modules[module]] = true;
+      });
+    }
+    return modules;
+  }
+
+  input.addEventListener("input", function () {
+    var matches = null;
+    input.value.toLowerCase().split(/\s+/).filter(function (term) {
+      return term.length > 0;
+    }).forEach(function (term) {
+      var found = search(term);
+      if (matches === null) {
+        matches = found;
+      } else {
+        Object.keys(matches).forEach(function (anchor) {
+          if (!found[anchor]) {
+            delete matches[anchor];
+          }
+        });
+      }
+    });
+    Object.keys(items).forEach(function (anchor) {
+      items[anchor].style.display = matches === null || matches[anchor] ? "" : "none";
+    });
+  });
+});
@@ -0,0 +1,111 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.plugins.autodoc.html;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.plugins.autodoc.json.JsonManifestReader;
+import org.eclipse.edc.runtime.metamodel.domain.EdcModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HtmlSearchIndexTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<String> tokens = new ArrayList<>();
+    private JsonNode index;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        var searchIndex = new HtmlSearchIndex(objectMapper);
+        new JsonManifestReader(objectMapper).read(getClass().getClassLoader().getResourceAsStream("example_manifest.json"))
+                .forEach(searchIndex::add);
+        var outputStream = new ByteArrayOutputStream();
+
+        searchIndex.write(outputStream);
+
+        var script = outputStream.toString();
+        assertThat(script).startsWith("var " + HtmlSearchIndex.VARIABLE + " = ").endsWith(";\n");
+        index = objectMapper.readTree(script.substring(script.indexOf('{'), script.lastIndexOf(';')));
+        var previous = "";
+        for (var entry : index.get("tokens").asText().split("\\|")) {
+            var separator = entry.indexOf(':');
+            previous = previous.substring(0, Integer.parseInt(entry.substring(0, separator))) + entry.substring(separator + 1);
+            tokens.add(previous);
+        }
+    }
+
+    @Test
+    void shouldSortTokens() {
+        assertThat(tokens).isSorted().doesNotHaveDuplicates();
+        assertThat(index.get("postings").asText().split("\\|")).hasSameSizeAs(tokens);
+    }
+
+    @Test
+    void shouldFindSettingKeys() {
+        assertThat(search("edc.api.auth.key")).containsExactly("auth-tokenbased");
+        assertThat(search("hashicorp")).containsExactly("vault-hashicorp");
+    }
+
+    @Test
+    void shouldFindClassNames_byWholeNameAndWords() {
+        assertThat(search("org.eclipse.edc.api.auth.token.tokenbasedauthenticationextension")).containsExactly("auth-tokenbased");
+        assertThat(search("tokenbasedauth")).containsExactly("auth-tokenbased");
+        assertThat(search("micrometer")).contains("jersey-micrometer", "jetty-micrometer", "micrometer-core");
+    }
+
+    @Test
+    void shouldFindModules_byTokenPrefix() {
+        assertThat(search("dataplane")).contains("data-plane-framework", "data-plane-api", "data-plane-store-sql");
+        assertThat(search("nonexistent")).isEmpty();
+    }
+
+    @Test
+    void shouldIndexModule_whosePathHasNoGroup() {
+        var searchIndex = new HtmlSearchIndex(objectMapper);
+        var outputStream = new ByteArrayOutputStream();
+
+        searchIndex.add(EdcModule.Builder.newInstance().modulePath("module-without-group").version("1.0.0").build());
+        searchIndex.write(outputStream);
+
+        assertThat(outputStream.toString()).contains("\"modules\":[\"module-without-group\"]");
+    }
+
+    /**
+     * Collects the modules of all tokens that start with the prefix, as the search script does.
+     */
+    private Set<String> search(String prefix) {
+        var postings = index.get("postings").asText().split("\\|");
+        var modules = new TreeSet<String>();
+        for (var i = 0; i < tokens.size(); i++) {
+            if (tokens.get(i).startsWith(prefix)) {
+                var module = 0;
+                for (var delta : postings[i].split(",")) {
+                    module += Integer.parseInt(delta, Character.MAX_RADIX);
+                    modules.add(index.get("modules").get(module).asText());
+                }
+            }
+        }
+        return modules;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.plugins.autodoc.html;
+
+import org.eclipse.edc.plugins.autodoc.spi.ManifestWriter;
+import org.eclipse.edc.runtime.metamodel.domain.EdcModule;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HtmlSiteRendererTest {
+
+    @TempDir
+    private Path siteDir;
+
+    @Test
+    void shouldRenderOnePagePerModule_withIndexAndStylesheet() throws IOException {
+        render(module("org.example:module-a"), module("org.example:module-b"));
+
+        assertThat(siteDir.resolve(HtmlSiteRenderer.STYLESHEET)).exists();
+        assertThat(Files.readString(siteDir.resolve(HtmlSiteRenderer.INDEX_PAGE)))
+                .containsSubsequence("<a href=\"org.example_module-a.html\">module-a</a>", "<a href=\"org.example_module-b.html\">module-b</a>")
+                .doesNotContain("<style>");
+        assertThat(Files.readString(siteDir.resolve("org.example_module-a.html")))
+                .contains("<link rel=\"stylesheet\" href=\"style.css\">")
+                .contains("<h2 id=\"module-a\">module-a</h2>")
+                .doesNotContain("module-b");
+    }
+
+    @Test
+    void shouldOnlyWriteChangedPages_andDeleteStalePages() throws IOException {
+        render(module("org.example:module-a"), module("org.example:module-b"));
+        var unchangedPage = siteDir.resolve("org.example_module-a.html");
+        var lastModified = FileTime.fromMillis(0);
+        Files.setLastModifiedTime(unchangedPage, lastModified);
+
+        render(module("org.example:module-a"));
+
+        assertThat(Files.getLastModifiedTime(unchangedPage)).isEqualTo(lastModified);
+        assertThat(siteDir.resolve("org.example_module-b.html")).doesNotExist();
+        assertThat(Files.readString(siteDir.resolve(HtmlSiteRenderer.INDEX_PAGE))).doesNotContain("module-b");
+    }
+
+    @Test
+    void shouldRenderModule_whosePathHasNoGroup() throws IOException {
+        render(module("module-without-group"));
+
+        assertThat(Files.readString(siteDir.resolve("module-without-group.html")))
+                .contains("<h2 id=\"module-without-group\">module-without-group</h2>");
+    }
+
+    @Test
+    void shouldRenderDistinctPages_forModulePathsWithSameCharacters() throws IOException {
+        render(module("org.example:module-a"), module("org.example-module:a"), module("org.example:module_a"));
+
+        assertThat(siteDir.resolve("org.example_module-a.html")).exists();
+        assertThat(siteDir.resolve("org.example-module_a.html")).exists();
+        assertThat(siteDir.resolve("org.example_module~005fa.html")).exists();
+        assertThat(HtmlSiteRenderer.pageName("org.example:module-a")).isNotEqualTo(HtmlSiteRenderer.pageName("org.example-module:a"));
+    }
+
+    private void render(EdcModule... modules) {
+        new ManifestWriter(new HtmlSiteRenderer(siteDir)).convert(List.of(modules));
+    }
+
+    private EdcModule module(String modulePath) {
+        return EdcModule.Builder.newInstance().modulePath(modulePath).version("1.0.0").build();
+    }
+}
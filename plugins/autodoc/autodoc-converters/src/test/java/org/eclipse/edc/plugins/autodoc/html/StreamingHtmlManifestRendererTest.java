@@ -0,0 +1,117 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.plugins.autodoc.html;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.plugins.autodoc.json.JsonManifestReader;
+import org.eclipse.edc.plugins.autodoc.spi.ManifestConverterException;
+import org.eclipse.edc.plugins.autodoc.spi.ManifestWriter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StreamingHtmlManifestRendererTest {
+
+    private final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    private final StreamingHtmlManifestRenderer renderer = new StreamingHtmlManifestRenderer(outputStream);
+
+    @Test
+    void shouldOutputValidHtml() {
+        var output = renderer.finalizeRendering();
+
+        assertThat(output).asString().satisfies(html -> {
+            assertThat(html).startsWith("<html>");
+            assertThat(html).endsWith("</html>");
+        });
+    }
+
+    @Test
+    void shouldAppendMenu_afterContent() {
+        renderer.renderDocumentHeader();
+        renderer.renderModuleHeading(null, "module:path", "0.2.0");
+        renderer.renderCategories(List.of("category"));
+
+        renderer.finalizeRendering();
+
+        assertThat(outputStream.toString())
+                .startsWith("<html><head><style>")
+                .containsSubsequence("<h2 id=\"path\">path</h2>", "<em>Categories: category</em>", "</article>",
+                        "<nav><ul><li><a href=\"#path\">path</a></li></ul></nav>")
+                .endsWith("</section></body></html>");
+    }
+
+    @Test
+    void shouldLoadSearchIndex_andAddSearchField() {
+        var searchableRenderer = new StreamingHtmlManifestRenderer(outputStream, "project-search.js");
+        searchableRenderer.renderDocumentHeader();
+        searchableRenderer.renderModuleHeading(null, "module:path", "0.2.0");
+
+        searchableRenderer.finalizeRendering();
+
+        assertThat(outputStream.toString())
+                .containsSubsequence("<head>", "<script src=\"project-search.js\"></script>", HtmlSearchIndex.VARIABLE, "</head>")
+                .contains("<nav><input type=\"search\" id=\"autodoc-search\" placeholder=\"Search\"><ul><li><a href=\"#path\">path</a></li></ul></nav>");
+    }
+
+    @Test
+    void shouldDeleteSpoolFile_whenFinalized(@TempDir Path spoolDirectory) {
+        var spoolingRenderer = new StreamingHtmlManifestRenderer(outputStream, null, spoolDirectory);
+        spoolingRenderer.renderModuleHeading(null, "module:path", "0.2.0");
+
+        spoolingRenderer.finalizeRendering();
+
+        assertThat(spoolDirectory).isEmptyDirectory();
+    }
+
+    @Test
+    void shouldDeleteSpoolFile_whenFinalizingFails(@TempDir Path spoolDirectory) {
+        var failingStream = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("disk full");
+            }
+        };
+        var spoolingRenderer = new StreamingHtmlManifestRenderer(failingStream, null, spoolDirectory);
+        spoolingRenderer.renderModuleHeading(null, "module:path", "0.2.0");
+
+        assertThatThrownBy(spoolingRenderer::finalizeRendering).isInstanceOf(ManifestConverterException.class);
+        assertThat(spoolDirectory).isEmptyDirectory();
+    }
+
+    @Test
+    void shouldRenderSameContent_asHtmlManifestRenderer() {
+        var modules = new JsonManifestReader(new ObjectMapper()).read(getClass().getClassLoader().getResourceAsStream("example_manifest.json"));
+        var expected = new ByteArrayOutputStream();
+        new ManifestWriter(new HtmlManifestRenderer(expected)).convert(modules);
+
+        new ManifestWriter(renderer).convert(modules);
+
+        var expectedContent = between(expected.toString(), "<article>", "</article>");
+        assertThat(between(outputStream.toString(), "<article>", "</article>")).isEqualTo(expectedContent);
+        assertThat(between(outputStream.toString(), "<nav>", "</nav>")).isEqualTo(between(expected.toString(), "<nav>", "</nav>"));
+    }
+
+    private String between(String html, String start, String end) {
+        return html.substring(html.indexOf(start), html.indexOf(end));
+    }
+}
@@ -17,6 +17,7 @@ package org.eclipse.edc.plugins.autodoc.json;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.eclipse.edc.plugins.autodoc.spi.ManifestConverterException;
+import org.eclipse.edc.runtime.metamodel.domain.EdcModule;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -49,6 +50,26 @@ class JsonManifestReaderTest {
                 .hasRootCauseInstanceOf(JsonProcessingException.class);
     }
 
+    @Test
+    void stream() {
+        var expected = reader.read(readResource("example_manifest.json")).stream().map(EdcModule::getModulePath).toList();
+
+        try (var modules = reader.stream(readResource("example_manifest.json"))) {
+            assertThat(modules.map(EdcModule::getModulePath)).containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    void stream_inputNotJson() {
+        assertThatThrownBy(() -> {
+            try (var modules = reader.stream(readResource("invalid_manifest.json"))) {
+                modules.toList();
+            }
+        })
+                .isInstanceOf(ManifestConverterException.class)
+                .hasRootCauseInstanceOf(JsonProcessingException.class);
+    }
+
     private InputStream readResource(String filename) {
         return Thread.currentThread().getContextClassLoader().getResourceAsStream(filename);
     }
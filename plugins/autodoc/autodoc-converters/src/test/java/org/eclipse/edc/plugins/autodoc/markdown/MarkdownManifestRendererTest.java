@@ -23,6 +23,8 @@ import org.eclipse.edc.runtime.metamodel.domain.EdcServiceExtension;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -154,6 +156,38 @@ class MarkdownManifestRendererTest {
         }
     }
 
+    @Nested
+    class Streaming {
+
+        @ParameterizedTest
+        @ValueSource(strings = { "example_manifest.json", "simple_manifest.json" })
+        void shouldRenderIdenticalDocument(String manifest) {
+            var list = generateManifest(manifest);
+            writer.convert(list);
+
+            var streamedOutputStream = new ByteArrayOutputStream();
+            new ManifestWriter(new StreamingMarkdownManifestRenderer(streamedOutputStream)).convert(list);
+
+            assertThat(streamedOutputStream.toByteArray()).isEqualTo(testOutputStream.toByteArray());
+        }
+
+        @Test
+        void shouldRenderIdenticalConfigurationTable() {
+            var setting = ConfigurationSetting.Builder.newInstance()
+                    .key("edc.setting.with.a.long.key").type("string").defaultValue("value").minimum(1L)
+                    .description("~").deprecated(true).build();
+            var list = List.of(EdcModule.Builder.newInstance().modulePath("foo:bar").version("0.1.0")
+                    .extension(EdcServiceExtension.Builder.newInstance().className("Ext").configuration(List.of(setting, setting)).build())
+                    .build());
+            writer.convert(list);
+
+            var streamedOutputStream = new ByteArrayOutputStream();
+            new ManifestWriter(new StreamingMarkdownManifestRenderer(streamedOutputStream)).convert(list);
+
+            assertThat(streamedOutputStream.toString()).isEqualTo(testOutputStream.toString());
+        }
+    }
+
     private List<EdcModule> generateManifest(String filename) {
         try (var stream = Thread.currentThread().getContextClassLoader().getResourceAsStream(filename)) {
             return new ObjectMapper().readValue(stream, new TypeReference<>() {
@@ -0,0 +1,219 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.plugins.autodoc.spi;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.plugins.autodoc.html.HtmlManifestRenderer;
+import org.eclipse.edc.plugins.autodoc.html.HtmlSiteRenderer;
+import org.eclipse.edc.plugins.autodoc.html.StreamingHtmlManifestRenderer;
+import org.eclipse.edc.plugins.autodoc.json.JsonManifestReader;
+import org.eclipse.edc.plugins.autodoc.markdown.MarkdownManifestRenderer;
+import org.eclipse.edc.plugins.autodoc.markdown.StreamingMarkdownManifestRenderer;
+import org.eclipse.edc.runtime.metamodel.domain.EdcModule;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ManifestWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final JsonManifestReader reader = new JsonManifestReader(objectMapper);
+    @TempDir
+    private Path tempDir;
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 2, 3, 256 })
+    void convert_fromFile_shouldRenderLikeList(int batchSize) throws IOException {
+        var modules = List.of(module("org.example:c"), module("org.example:a"), module("org.example:d"), module("org.example:b"));
+        var manifest = tempDir.resolve("manifest.json");
+        objectMapper.writeValue(manifest.toFile(), modules);
+
+        var expected = new ByteArrayOutputStream();
+        new ManifestWriter(new MarkdownManifestRenderer(expected)).convert(modules);
+        var actual = new ByteArrayOutputStream();
+        new ManifestWriter(new MarkdownManifestRenderer(actual), batchSize).convert(reader, manifest);
+
+        assertThat(actual.toString()).isEqualTo(expected.toString());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 2, 256 })
+    void convert_fromFile_shouldKeepManifestOrder_ofEqualModulePaths(int batchSize) throws IOException {
+        var modules = List.of(module("org.example:b", "1.0.0"), module("org.example:a", "1.0.0"), module("org.example:b", "2.0.0"),
+                module("org.example:a", "2.0.0"));
+        var manifest = tempDir.resolve("manifest.json");
+        objectMapper.writeValue(manifest.toFile(), modules);
+
+        var output = new ByteArrayOutputStream();
+        new ManifestWriter(new MarkdownManifestRenderer(output), batchSize).convert(reader, manifest);
+
+        assertThat(output.toString()).containsSubsequence("Module `a`", "1.0.0", "Module `a`", "2.0.0", "Module `b`", "1.0.0", "Module `b`", "2.0.0");
+    }
+
+    @Test
+    void convert_fromFile_shouldRenderSortedManifest() throws IOException {
+        var modules = List.of(module("org.example:a"), module("org.example:b"));
+        var manifest = tempDir.resolve("manifest.json");
+        objectMapper.writeValue(manifest.toFile(), modules);
+
+        var output = new ByteArrayOutputStream();
+        new ManifestWriter(new MarkdownManifestRenderer(output), 1).convert(reader, manifest);
+
+        assertThat(output.toString()).containsSubsequence("Module `a`", "Module `b`");
+    }
+
+    @Test
+    void convert_fromFile_shouldThrow_whenFileDoesNotExist() {
+        var writer = new ManifestWriter(new MarkdownManifestRenderer(new ByteArrayOutputStream()));
+
+        assertThatThrownBy(() -> writer.convert(reader, tempDir.resolve("missing.json")))
+                .isInstanceOf(ManifestConverterException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 7, 256 })
+    void convert_parallel_shouldRenderLikeSequential(int batchSize) {
+        var modules = reader.read(readResource("example_manifest.json"));
+
+        assertThat(render(modules, MarkdownManifestRenderer::new, batchSize)).isEqualTo(render(modules, MarkdownManifestRenderer::new, 0));
+        assertThat(render(modules, StreamingMarkdownManifestRenderer::new, batchSize)).isEqualTo(render(modules, MarkdownManifestRenderer::new, 0));
+        assertThat(render(modules, HtmlManifestRenderer::new, batchSize)).isEqualTo(render(modules, HtmlManifestRenderer::new, 0));
+        assertThat(render(modules, StreamingHtmlManifestRenderer::new, batchSize)).isEqualTo(render(modules, StreamingHtmlManifestRenderer::new, 0));
+    }
+
+    @Test
+    void convert_parallel_fromFile_shouldRenderLikeSequential() throws IOException {
+        var modules = List.of(module("org.example:c"), module("org.example:a"), module("org.example:d"), module("org.example:b"));
+        var manifest = tempDir.resolve("manifest.json");
+        objectMapper.writeValue(manifest.toFile(), modules);
+
+        var expected = new ByteArrayOutputStream();
+        new ManifestWriter(new MarkdownManifestRenderer(expected)).convert(modules);
+        var actual = new ByteArrayOutputStream();
+        new ManifestWriter(new MarkdownManifestRenderer(actual), 3, true).convert(reader, manifest);
+
+        assertThat(actual.toString()).isEqualTo(expected.toString());
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { true, false })
+    void convert_withFragmentCache_shouldRenderChangedModulesOnly(boolean parallel) {
+        var cache = new InMemoryFragmentCache();
+        var modules = List.of(module("org.example:b"), module("org.example:a"));
+        var expected = new ByteArrayOutputStream();
+        new ManifestWriter(new HtmlManifestRenderer(expected)).convert(modules);
+
+        var first = new ByteArrayOutputStream();
+        new ManifestWriter(new HtmlManifestRenderer(first), 256, parallel, cache).convert(modules);
+        var second = new ByteArrayOutputStream();
+        new ManifestWriter(new HtmlManifestRenderer(second), 256, parallel, cache).convert(modules);
+
+        assertThat(first.toString()).isEqualTo(expected.toString());
+        assertThat(second.toString()).isEqualTo(expected.toString());
+        assertThat(cache.puts).hasValue(2);
+        assertThat(cache.hits).hasValue(2);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { true, false })
+    void convert_withFragments_shouldUseOverriddenHandlers(boolean parallel) {
+        var modules = List.of(module("org.example:b"), module("org.example:a"));
+        var output = new ByteArrayOutputStream();
+        var writer = new ManifestWriter(new MarkdownManifestRenderer(output), 256, parallel, new InMemoryFragmentCache()) {
+            @Override
+            protected void handleModule(ManifestRenderer target, EdcModule edcModule) {
+                if (!edcModule.getModulePath().endsWith(":b")) {
+                    super.handleModule(target, edcModule);
+                }
+            }
+        };
+
+        writer.convert(modules);
+
+        assertThat(output.toString()).contains("Module `a`").doesNotContain("Module `b`");
+    }
+
+    @Test
+    void convert_shouldRenderSequentially_whenRendererDoesNotSupportFragments() {
+        var cache = new InMemoryFragmentCache();
+        var modules = List.of(module("org.example:b"), module("org.example:a"));
+
+        new ManifestWriter(new HtmlSiteRenderer(tempDir), 1, true, cache).convert(modules);
+
+        assertThat(tempDir.resolve(HtmlSiteRenderer.pageName("org.example:a"))).exists();
+        assertThat(tempDir.resolve(HtmlSiteRenderer.pageName("org.example:b"))).exists();
+        assertThat(cache.puts).hasValue(0);
+    }
+
+    /**
+     * Renders the modules sequentially if the batch size is 0, in parallel otherwise.
+     */
+    private String render(List<EdcModule> modules, Function<OutputStream, ManifestRenderer> rendererFactory, int batchSize) {
+        var output = new ByteArrayOutputStream();
+        var renderer = rendererFactory.apply(output);
+        var writer = batchSize == 0 ? new ManifestWriter(renderer) : new ManifestWriter(renderer, batchSize, true);
+        writer.convert(modules);
+        return output.toString();
+    }
+
+    private InputStream readResource(String filename) {
+        return Thread.currentThread().getContextClassLoader().getResourceAsStream(filename);
+    }
+
+    private EdcModule module(String modulePath) {
+        return module(modulePath, "1.0.0");
+    }
+
+    private EdcModule module(String modulePath, String version) {
+        return EdcModule.Builder.newInstance().modulePath(modulePath).version(version).build();
+    }
+
+    private static class InMemoryFragmentCache implements ManifestFragmentCache {
+        private final Map<String, byte[]> fragments = new ConcurrentHashMap<>();
+        private final AtomicInteger puts = new AtomicInteger();
+        private final AtomicInteger hits = new AtomicInteger();
+
+        @Override
+        public byte[] get(EdcModule module) {
+            var fragment = fragments.get(module.getModulePath());
+            if (fragment != null) {
+                hits.incrementAndGet();
+            }
+            return fragment;
+        }
+
+        @Override
+        public void put(EdcModule module, byte[] fragment) {
+            puts.incrementAndGet();
+            fragments.put(module.getModulePath(), fragment);
+        }
+    }
+}
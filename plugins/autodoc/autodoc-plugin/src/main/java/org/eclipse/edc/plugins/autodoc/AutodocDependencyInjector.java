@@ -14,54 +14,78 @@
 
 package org.eclipse.edc.plugins.autodoc;
 
+import org.eclipse.edc.plugins.autodoc.tasks.AutodocBomTask;
 import org.gradle.api.Project;
-import org.gradle.api.artifacts.DependencyResolutionListener;
-import org.gradle.api.artifacts.ResolvableDependencies;
+import org.gradle.api.file.Directory;
+import org.gradle.api.provider.Property;
+import org.gradle.api.provider.Provider;
 import org.gradle.api.tasks.compile.JavaCompile;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.List;
-
 import static java.lang.String.format;
 
 /**
- * Adds an {@code annotationProcessor("...")} dependency to the project
+ * Adds an {@code annotationProcessor("...")} dependency to the project, and passes the processor options to {@code compileJava}.
+ * <p>
+ * The dependency is only added when the project's own {@code annotationProcessor} configuration is resolved, and the options
+ * are supplied by {@link AutodocProcessorArguments} when the compiler is invoked, so the build script has been evaluated by then.
+ * No build listeners are registered, so the work per project is constant, and the plugin is compatible with parallel
+ * configuration and the configuration cache.
  */
-class AutodocDependencyInjector implements DependencyResolutionListener {
+class AutodocDependencyInjector {
     private static final String ANNOTATION_PROCESSOR = "annotationProcessor";
-    private static final String VERSION = "edc.version"; // must be identical to EdcModuleProcessor.VERSION
-    private static final String ID = "edc.id"; // must be identical to EdcModuleProcessor.ID
-    private static final String OUTPUTDIR = "edc.outputDir"; // must be identical to EdcModuleProcessor.EDC_OUTPUTDIR_OVERRIDE
+    private static final String COMPILE_JAVA = "compileJava";
+    private static final String BOM_PROCESSOR_DIRECTORY = "autodoc-processor";
     private static final String DEPENDENCY_NAME = format("%s:%s", "org.eclipse.edc", "autodoc-processor");
     private final Project project;
     private final AutodocExtension extension;
+    private final Property<Boolean> bomProject;
 
     AutodocDependencyInjector(Project project, AutodocExtension extension) {
         this.project = project;
         this.extension = extension;
+        bomProject = project.getObjects().property(Boolean.class).convention(false);
     }
 
-    @Override
-    public void beforeResolve(ResolvableDependencies dependencies) {
-        var artifact = DEPENDENCY_NAME + ":" + getProcessorVersion();
+    /**
+     * Moves the default output directory of the processor out of the way of {@link AutodocBomTask}. Called when that task is
+     * configured, which only happens if it is part of the build.
+     */
+    void useBomOutputDirectory() {
+        bomProject.set(true);
+    }
 
-        if (addDependency(project, artifact)) {
-            var task = project.getTasks().findByName("compileJava");
-            if (task instanceof JavaCompile compileJava) {
-                var versionArg = format("-A%s=%s", VERSION, project.getVersion());
-                var idArg = format("-A%s=%s:%s", ID, project.getGroup(), project.getName());
-                var projectBuildDirectory = project.getLayout().getBuildDirectory().getAsFile();
-                var outputArg = format("-A%s=%s", OUTPUTDIR, extension.getOutputDirectory().convention(projectBuildDirectory).get());
+    /**
+     * Wires the processor into the project once the {@code java} plugin is applied.
+     */
+    void inject() {
+        project.getPluginManager().withPlugin("java", plugin -> {
+            project.getConfigurations().named(ANNOTATION_PROCESSOR).configure(configuration -> configuration.withDependencies(dependencies -> {
+                var dependencyName = DEPENDENCY_NAME + ":" + getProcessorVersion();
+                project.getLogger().debug("autodoc: Add dependency {}(\"{}\") to project {}", ANNOTATION_PROCESSOR, dependencyName, project.getName());
+                dependencies.add(project.getDependencies().create(dependencyName));
+            }));
+            project.getTasks().named(COMPILE_JAVA, JavaCompile.class).configure(compileJava -> {
+                var arguments = project.getObjects().newInstance(AutodocProcessorArguments.class);
+                arguments.getModuleId().set(project.provider(() -> format("%s:%s", project.getGroup(), project.getName())));
+                arguments.getModuleVersion().set(project.provider(() -> project.getVersion().toString()));
+                arguments.getOutputDirectory().set(project.getLayout().dir(extension.getOutputDirectory())
+                        .orElse(defaultOutputDirectory()));
 
-                compileJava.getOptions().getCompilerArgs().addAll(List.of(idArg, versionArg, outputArg));
-            }
-        }
-        project.getGradle().removeListener(this);
+                compileJava.getOptions().getCompilerArgumentProviders().add(arguments);
+            });
+        });
     }
 
-    @Override
-    public void afterResolve(ResolvableDependencies dependencies) {
-
+    /**
+     * The manifest is written into the build directory, where the merge and render tasks expect it. BOM projects are the
+     * exception: their {@code edc.json} in the build directory is written by {@link AutodocBomTask}, so the processor writes
+     * into a dedicated directory, and the two tasks do not declare overlapping outputs, which would disable caching for both.
+     * A project counts as a BOM project once its {@link AutodocBomTask} is configured, see {@link #useBomOutputDirectory()}.
+     */
+    private Provider<Directory> defaultOutputDirectory() {
+        var buildDirectory = project.getLayout().getBuildDirectory();
+        return bomProject.flatMap(isBom -> isBom ? buildDirectory.dir(BOM_PROCESSOR_DIRECTORY) : buildDirectory);
     }
 
     private @NotNull String getProcessorVersion() {
@@ -77,20 +101,4 @@ class AutodocDependencyInjector implements DependencyResolutionListener {
             return version;
         }
     }
-
-    /**
-     * Adds an {@code annotationProcessor} dependency to the given project.
-     *
-     * @param project        The Gradle project, to which the annotationProcessor dep is to be added
-     * @param dependencyName The fully qualified maven coordinates (GROUPID:ARTIFACT:VERSION) of te dependency
-     * @return true if the dependency was added successfully, false if the project does not have an {@code annotationProcessor} configuration, or the dep could not be added.
-     */
-    private boolean addDependency(Project project, String dependencyName) {
-        var apConfig = project.getConfigurations().findByName(ANNOTATION_PROCESSOR);
-        if (apConfig != null) {
-            project.getLogger().debug("autodoc: Add dependency {}(\"{}\") to project {}", ANNOTATION_PROCESSOR, dependencyName, project.getName());
-            return apConfig.getDependencies().add(project.getDependencies().create(dependencyName));
-        }
-        return false;
-    }
 }
@@ -17,8 +17,16 @@ package org.eclipse.edc.plugins.autodoc;
 import org.gradle.api.provider.Property;
 
 import java.io.File;
+import java.time.Duration;
 
 public abstract class AutodocExtension {
+    public static final int DEFAULT_MAX_CONCURRENT_DOWNLOADS = 8;
+    public static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(10);
+    public static final Duration DEFAULT_READ_TIMEOUT = Duration.ofSeconds(30);
+    public static final Duration DEFAULT_DOWNLOAD_DEADLINE = Duration.ofMinutes(2);
+    public static final Duration DEFAULT_NEGATIVE_CACHE_TTL = Duration.ofHours(24);
+    public static final String DEFAULT_TRANSITIVE_CONFIGURATION = "runtimeClasspath";
+    public static final Duration DEFAULT_SNAPSHOT_METADATA_TTL = Duration.ofHours(1);
     private boolean includeTransitive = true;
 
     /**
@@ -50,10 +58,56 @@ public abstract class AutodocExtension {
      */
     public abstract Property<File> getDownloadDirectory();
 
+    /**
+     * The maximum number of requests that the download task sends to a single Maven repository at the same time. Dependencies
+     * are resolved concurrently, defaults to {@value #DEFAULT_MAX_CONCURRENT_DOWNLOADS}.
+     */
+    public abstract Property<Integer> getMaxConcurrentDownloads();
+
+    /**
+     * The timeout for establishing connections to remote repositories. The HTTP transport is shared by the whole build, so the
+     * timeouts of the first project that applies the plugin are used. Defaults to 10 seconds.
+     */
+    public abstract Property<Duration> getConnectTimeout();
+
+    /**
+     * The time to wait for the response headers of a remote repository. Defaults to 30 seconds.
+     */
+    public abstract Property<Duration> getReadTimeout();
+
+    /**
+     * The maximum duration of a single download, including the response body. Defaults to 2 minutes.
+     */
+    public abstract Property<Duration> getDownloadDeadline();
+
+    /**
+     * How long a repository that did not have the manifest of a dependency is remembered, and not asked again for it.
+     * Defaults to 24 hours.
+     */
+    public abstract Property<Duration> getNegativeCacheTtl();
+
+    /**
+     * How the manifests of external dependencies are downloaded. Defaults to {@link ManifestResolutionMode#HTTP}.
+     */
+    public abstract Property<ManifestResolutionMode> getManifestResolution();
+
+    /**
+     * How long the {@code maven-metadata.xml} that resolves a SNAPSHOT version to its timestamped file name is cached before it
+     * is fetched again. Defaults to 1 hour.
+     */
+    public abstract Property<Duration> getSnapshotMetadataTtl();
+
+    /**
+     * The configuration whose resolved dependency graph is walked to find the manifests of transitive dependencies, if
+     * {@link #isIncludeTransitive()} is set. Defaults to {@value #DEFAULT_TRANSITIVE_CONFIGURATION}.
+     */
+    public abstract Property<String> getTransitiveConfiguration();
+
 
     /**
      * Determines whether to include transitive dependencies in the merge process.
-     * If set to {@code true}, the merge task will download the manifests of transitive (EDC) dependencies and include them in the merged manifest.
+     * If set to {@code true}, the download task walks the resolved dependency graph of {@link #getTransitiveConfiguration()}, so the
+     * manifests of transitive (EDC) dependencies are downloaded and included in the merged manifest.
      * If set to {@code false}, only the direct dependencies will be merged.
      *
      * @return {@code true} if transitive dependencies should be included, {@code false} otherwise.
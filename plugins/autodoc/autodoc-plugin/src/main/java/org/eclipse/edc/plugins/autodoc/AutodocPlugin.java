@@ -16,6 +16,9 @@ package org.eclipse.edc.plugins.autodoc;
 
 import org.eclipse.edc.plugins.autodoc.tasks.AutodocBomTask;
 import org.eclipse.edc.plugins.autodoc.tasks.DownloadManifestTask;
+import org.eclipse.edc.plugins.autodoc.tasks.HtmlSiteTask;
+import org.eclipse.edc.plugins.autodoc.tasks.HttpTransportService;
+import org.eclipse.edc.plugins.autodoc.tasks.MarkdownRendererTask;
 import org.eclipse.edc.plugins.autodoc.tasks.MarkdownRendererTask.ToHtml;
 import org.eclipse.edc.plugins.autodoc.tasks.MarkdownRendererTask.ToMarkdown;
 import org.eclipse.edc.plugins.autodoc.tasks.MergeManifestsTask;
@@ -37,23 +40,54 @@ public class AutodocPlugin implements Plugin<Project> {
     @Override
     public void apply(Project project) {
         var extension = project.getExtensions().create("autodocextension", AutodocExtension.class);
+        extension.getMaxConcurrentDownloads().convention(AutodocExtension.DEFAULT_MAX_CONCURRENT_DOWNLOADS);
+        extension.getConnectTimeout().convention(AutodocExtension.DEFAULT_CONNECT_TIMEOUT);
+        extension.getReadTimeout().convention(AutodocExtension.DEFAULT_READ_TIMEOUT);
+        extension.getDownloadDeadline().convention(AutodocExtension.DEFAULT_DOWNLOAD_DEADLINE);
+        extension.getNegativeCacheTtl().convention(AutodocExtension.DEFAULT_NEGATIVE_CACHE_TTL);
+        extension.getManifestResolution().convention(ManifestResolutionMode.HTTP);
+        extension.getTransitiveConfiguration().convention(AutodocExtension.DEFAULT_TRANSITIVE_CONFIGURATION);
+        extension.getSnapshotMetadataTtl().convention(AutodocExtension.DEFAULT_SNAPSHOT_METADATA_TTL);
 
+        var httpTransport = project.getGradle().getSharedServices().registerIfAbsent(HttpTransportService.NAME, HttpTransportService.class, spec -> {
+            spec.getParameters().getConnectTimeout().set(extension.getConnectTimeout());
+            spec.getParameters().getReadTimeout().set(extension.getReadTimeout());
+            spec.getParameters().getDownloadDeadline().set(extension.getDownloadDeadline());
+        });
+
+        var dependencyInjector = new AutodocDependencyInjector(project, extension);
         if (!exclusions.contains(project.getName())) {
-            project.getGradle().addListener(new AutodocDependencyInjector(project, extension));
+            dependencyInjector.inject();
         }
 
         project.getTasks().register(AUTODOC_TASK_NAME, t -> t.dependsOn("compileJava").setGroup(GROUP_NAME));
-        project.getTasks().register(MergeManifestsTask.NAME, MergeManifestsTask.class, t -> t.dependsOn(AUTODOC_TASK_NAME).setGroup(GROUP_NAME));
-        project.getTasks().register(ToMarkdown.NAME, ToMarkdown.class, t -> t.setGroup(GROUP_NAME));
-        project.getTasks().register(ToHtml.NAME, ToHtml.class, t -> t.setGroup(GROUP_NAME));
-        project.getTasks().register(DownloadManifestTask.NAME, DownloadManifestTask.class, t -> t.setGroup(GROUP_NAME));
+        // the merge and render tasks consume the outputs of the resolve tasks, if those run in the same build
+        project.getTasks().register(MergeManifestsTask.NAME, MergeManifestsTask.class, t -> {
+            t.dependsOn(AUTODOC_TASK_NAME).setGroup(GROUP_NAME);
+            t.mustRunAfter(DownloadManifestTask.NAME, ResolveManifestTask.NAME, AutodocBomTask.NAME);
+        });
+        project.getTasks().register(ToMarkdown.NAME, ToMarkdown.class, t -> t.mustRunAfter(MergeManifestsTask.NAME, AutodocBomTask.NAME).setGroup(GROUP_NAME));
+        project.getTasks().register(ToHtml.NAME, ToHtml.class, t -> t.mustRunAfter(MergeManifestsTask.NAME, AutodocBomTask.NAME).setGroup(GROUP_NAME));
+        project.getTasks().register(HtmlSiteTask.NAME, HtmlSiteTask.class, t -> t.mustRunAfter(MergeManifestsTask.NAME, AutodocBomTask.NAME).setGroup(GROUP_NAME));
+        // the manifest of a module is a declared output of its compile task
+        project.getPluginManager().withPlugin("java", plugin -> {
+            project.getTasks().withType(MarkdownRendererTask.class).configureEach(t -> t.mustRunAfter("compileJava"));
+            project.getTasks().withType(HtmlSiteTask.class).configureEach(t -> t.mustRunAfter("compileJava"));
+        });
+        project.getTasks().register(DownloadManifestTask.NAME, DownloadManifestTask.class, t -> {
+            t.setGroup(GROUP_NAME);
+            t.getHttpTransport().set(httpTransport);
+            t.usesService(httpTransport);
+        });
         // resolving manifests requires the Autodoc manifests of all dependencies to exist already
         project.getTasks().register(ResolveManifestTask.NAME, ResolveManifestTask.class, t -> {
             t.dependsOn(AUTODOC_TASK_NAME);
             t.setGroup(GROUP_NAME);
             t.setDescription(ResolveManifestTask.DESCRIPTION);
         });
+        // the task is only configured if it is part of the build, which makes the project a BOM project
         project.getTasks().register(AutodocBomTask.NAME, AutodocBomTask.class, t -> {
+            dependencyInjector.useBomOutputDirectory();
             t.dependsOn(ResolveManifestTask.NAME);
             t.setDescription(AutodocBomTask.DESCRIPTION);
             t.setGroup(GROUP_NAME);
@@ -0,0 +1,79 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.plugins.autodoc;
+
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.file.RegularFile;
+import org.gradle.api.provider.Property;
+import org.gradle.api.provider.Provider;
+import org.gradle.api.tasks.Input;
+import org.gradle.api.tasks.Internal;
+import org.gradle.api.tasks.OutputFile;
+import org.gradle.process.CommandLineArgumentProvider;
+
+import java.util.List;
+
+import static java.lang.String.format;
+
+/**
+ * Supplies the options of the autodoc annotation processor to {@code compileJava}. The values are only computed when the
+ * compiler is invoked, and they are declared as inputs and outputs of the compile task.
+ * <p>
+ * Gradle only fingerprints the annotated properties, never the arguments themselves. The absolute path of the output directory
+ * is therefore not part of the cache key of {@code compileJava}, which keeps the task relocatable, and the manifest is restored
+ * from the build cache along with the classes.
+ */
+public abstract class AutodocProcessorArguments implements CommandLineArgumentProvider {
+    static final String VERSION = "edc.version"; // must be identical to EdcModuleProcessor.VERSION
+    static final String ID = "edc.id"; // must be identical to EdcModuleProcessor.ID
+    static final String OUTPUTDIR = "edc.outputDir"; // must be identical to EdcModuleProcessor.EDC_OUTPUTDIR_OVERRIDE
+    static final String MANIFEST_NAME = "edc.json"; // must be identical to EdcModuleProcessor.MANIFEST_NAME
+
+    /**
+     * The id of the module, by convention {@code group:name}.
+     */
+    @Input
+    public abstract Property<String> getModuleId();
+
+    /**
+     * The version of the module.
+     */
+    @Input
+    public abstract Property<String> getModuleVersion();
+
+    /**
+     * The directory the processor mirrors the manifest into. It is usually the build directory, which is shared with other
+     * tasks, so only the manifest itself is declared as an output, instead of the whole directory.
+     */
+    @Internal
+    public abstract DirectoryProperty getOutputDirectory();
+
+    /**
+     * The manifest that the processor writes into the {@link #getOutputDirectory() output directory}.
+     */
+    @OutputFile
+    public Provider<RegularFile> getManifestFile() {
+        return getOutputDirectory().file(MANIFEST_NAME);
+    }
+
+    @Override
+    public Iterable<String> asArguments() {
+        return List.of(
+                format("-A%s=%s", ID, getModuleId().get()),
+                format("-A%s=%s", VERSION, getModuleVersion().get()),
+                format("-A%s=%s", OUTPUTDIR, getOutputDirectory().get().getAsFile().getAbsolutePath())
+        );
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.plugins.autodoc;
+
+/**
+ * Determines how the download task obtains the manifests of external dependencies.
+ */
+public enum ManifestResolutionMode {
+    /**
+     * Manifest URLs are derived from the Maven repositories of the project, and the files are fetched with the autodoc HTTP
+     * transport, see {@link org.eclipse.edc.plugins.autodoc.tasks.HttpTransportService}.
+     */
+    HTTP,
+    /**
+     * Manifests are resolved as {@code manifest}-classified {@code json} artifacts through Gradle's dependency resolution, which
+     * honors offline mode, repository credentials and content filtering, and shares Gradle's module cache across projects.
+     */
+    GRADLE
+}
@@ -16,7 +16,13 @@ package org.eclipse.edc.plugins.autodoc.tasks;
 
 import org.eclipse.edc.plugins.autodoc.AutodocExtension;
 import org.gradle.api.DefaultTask;
+import org.gradle.api.artifacts.Configuration;
 import org.gradle.api.artifacts.Dependency;
+import org.gradle.api.artifacts.component.ModuleComponentIdentifier;
+import org.gradle.api.artifacts.component.ProjectComponentIdentifier;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.internal.artifacts.dependencies.DefaultProjectDependency;
+import org.gradle.api.provider.ListProperty;
 import org.gradle.api.tasks.Internal;
 import org.gradle.api.tasks.OutputDirectory;
 import org.gradle.api.tasks.TaskAction;
@@ -27,10 +33,21 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
 
 import static java.util.Objects.requireNonNull;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
+import static org.eclipse.edc.plugins.autodoc.AutodocExtension.DEFAULT_TRANSITIVE_CONFIGURATION;
 import static org.eclipse.edc.plugins.autodoc.tasks.Constants.DEFAULT_AUTODOC_FOLDER;
 
 /**
@@ -38,48 +55,63 @@ import static org.eclipse.edc.plugins.autodoc.tasks.Constants.DEFAULT_AUTODOC_FO
  * the file to a directory on the local file system.
  * <p>
  * Implementations must provide a reference to that autodoc manifest file in the form of a {@link DependencySource}.
+ * <p>
+ * The dependencies are collected lazily from the Gradle model, so that they reflect the complete build script, but before the
+ * task executes. The task action does not access the project, which makes it compatible with the configuration cache.
  */
 public abstract class AbstractManifestResolveTask extends DefaultTask {
     public static final String MANIFEST_CLASSIFIER = "manifest";
     public static final String MANIFEST_TYPE = "json";
-    protected Path downloadDirectory;
-    private File outputDirectoryOverride;
 
     public AbstractManifestResolveTask() {
-        downloadDirectory = getProject().getLayout().getBuildDirectory().getAsFile().get().toPath().resolve(DEFAULT_AUTODOC_FOLDER);
+        var autodocExt = getProject().getExtensions().findByType(AutodocExtension.class);
+        requireNonNull(autodocExt, "AutodocExtension cannot be null");
+
+        var defaultDirectory = getProject().getLayout().getBuildDirectory().dir(DEFAULT_AUTODOC_FOLDER);
+        getOutputDirectory().convention(getProject().getLayout().dir(autodocExt.getDownloadDirectory()).orElse(defaultDirectory));
+        getManifestDependencies().convention(getProject().provider(() -> collectManifestDependencies(autodocExt)));
     }
 
     @TaskAction
     public void resolveAutodocManifest() {
-        var autodocExt = getProject().getExtensions().findByType(AutodocExtension.class);
-        requireNonNull(autodocExt, "AutodocExtension cannot be null");
-
-        if (autodocExt.getDownloadDirectory().isPresent()) {
-            downloadDirectory = autodocExt.getDownloadDirectory().get().toPath();
-        }
+        var dependencies = getManifestDependencies().get();
 
-        if (outputDirectoryOverride != null) {
-            downloadDirectory = outputDirectoryOverride.toPath();
+        beforeResolution(dependencies);
+        var parallelism = Math.max(1, Math.min(getParallelism(), dependencies.size()));
+        if (parallelism == 1) {
+            dependencies.forEach(this::resolveDependency);
+        } else {
+            resolveConcurrently(dependencies, parallelism);
         }
-
-        getProject().getConfigurations()
-                .stream().flatMap(config -> config.getDependencies().stream())
-                .distinct()
-                .filter(this::includeDependency)
-                .filter(dep -> !getExclusions().contains(dep.getName()))
-                .map(this::createSource)
-                .filter(Optional::isPresent)
-                .forEach(dt -> transferDependencyFile(dt.get(), downloadDirectory));
+        onResolutionCompleted();
     }
 
     @Option(option = "output", description = "CLI option to override the output directory")
     public void setOutput(String output) {
-        this.outputDirectoryOverride = new File(output);
+        getOutputDirectory().set(new File(output));
     }
 
+    /**
+     * The directory the manifests are transferred to. The {@code --output} option takes precedence over
+     * {@link AutodocExtension#getDownloadDirectory()}, which takes precedence over {@code <project>/build/autodoc}.
+     */
     @OutputDirectory
-    public File getOutputFile() {
-        return downloadDirectory.toFile();
+    public abstract DirectoryProperty getOutputDirectory();
+
+    /**
+     * The dependencies whose manifests are resolved, de-duplicated by coordinates, so that no two workers ever write the same
+     * file. By default, they are collected from the project when the value is first queried.
+     */
+    @Internal
+    public abstract ListProperty<ManifestDependency> getManifestDependencies();
+
+    /**
+     * Whether the resolved dependency graph of {@link AutodocExtension#getTransitiveConfiguration()} is walked instead of
+     * considering only the declared dependencies of all configurations.
+     */
+    @Internal //otherwise it would get interpreted as task input :/
+    protected boolean isResolveTransitively() {
+        return false;
     }
 
     /**
@@ -98,13 +130,114 @@ public abstract class AbstractManifestResolveTask extends DefaultTask {
     @Internal //otherwise it would get interpreted as task input :/
     protected abstract InputStream resolveManifest(DependencySource autodocManifest);
 
+    /**
+     * The number of dependencies that are resolved concurrently. Implementations must make {@link #createSource(ManifestDependency)} and
+     * {@link #resolveManifest(DependencySource)} threadsafe when returning a value greater than 1.
+     */
+    @Internal //otherwise it would get interpreted as task input :/
+    protected int getParallelism() {
+        return 1;
+    }
+
     @Internal //otherwise it would get interpreted as task input :/
     protected Set<String> getExclusions() {
         return Set.of();
     }
 
     @Internal //otherwise it would get interpreted as task input :/
-    protected abstract Optional<DependencySource> createSource(Dependency dependency);
+    protected abstract Optional<DependencySource> createSource(ManifestDependency dependency);
+
+    /**
+     * Invoked with all dependencies that are about to be resolved, before {@link #createSource(ManifestDependency)} is called for any of
+     * them.
+     *
+     * @param dependencies the dependencies, de-duplicated by coordinates
+     */
+    protected void beforeResolution(Collection<ManifestDependency> dependencies) {
+    }
+
+    /**
+     * Invoked after all dependencies were resolved successfully.
+     */
+    protected void onResolutionCompleted() {
+    }
+
+    private List<ManifestDependency> collectManifestDependencies(AutodocExtension autodocExt) {
+        return collectDependencies(autodocExt)
+                .filter(this::includeDependency)
+                .filter(dep -> !getExclusions().contains(dep.getName()))
+                .map(this::toManifestDependency)
+                .collect(toMap(ManifestDependency::coordinates, identity(), (first, second) -> first, LinkedHashMap::new))
+                .values()
+                .stream()
+                .toList();
+    }
+
+    private ManifestDependency toManifestDependency(Dependency dependency) {
+        File localManifest = null;
+        String projectPath = null;
+        if (dependency instanceof DefaultProjectDependency projectDependency) {
+            var dependencyProject = projectDependency.getDependencyProject();
+            localManifest = dependencyProject.getLayout().getBuildDirectory().file("edc.json").get().getAsFile();
+            projectPath = dependencyProject.getPath();
+        }
+        return new ManifestDependency(dependency.getGroup(), dependency.getName(), dependency.getVersion(), localManifest, projectPath);
+    }
+
+    private Stream<Dependency> collectDependencies(AutodocExtension autodocExt) {
+        if (isResolveTransitively()) {
+            var configurationName = autodocExt.getTransitiveConfiguration().getOrElse(DEFAULT_TRANSITIVE_CONFIGURATION);
+            var configuration = getProject().getConfigurations().findByName(configurationName);
+            if (configuration != null && configuration.isCanBeResolved()) {
+                return resolvedComponents(configuration);
+            }
+            getLogger().warn("Configuration '{}' does not exist or cannot be resolved, using declared dependencies only", configurationName);
+        }
+        return getProject().getConfigurations().stream().flatMap(config -> config.getDependencies().stream());
+    }
+
+    /**
+     * Walks the resolved component graph of the configuration, and creates one dependency per module. The graph contains each
+     * module only once, with the version that conflict resolution selected. Projects are represented as project dependencies,
+     * the root component is skipped.
+     */
+    private Stream<Dependency> resolvedComponents(Configuration configuration) {
+        var dependencyHandler = getProject().getDependencies();
+        var resolutionResult = configuration.getIncoming().getResolutionResult();
+        var root = resolutionResult.getRoot().getId();
+        var modules = new LinkedHashMap<String, Dependency>();
+        resolutionResult.getAllComponents().forEach(component -> {
+            var id = component.getId();
+            if (id.equals(root)) {
+                return;
+            }
+            if (id instanceof ModuleComponentIdentifier moduleId) {
+                modules.putIfAbsent(moduleId.getModuleIdentifier().toString(), dependencyHandler.create(moduleId.getDisplayName()));
+            } else if (id instanceof ProjectComponentIdentifier projectId) {
+                modules.putIfAbsent(projectId.getProjectPath(), dependencyHandler.project(Map.of("path", projectId.getProjectPath())));
+            }
+        });
+        getLogger().debug("Found {} components in the resolved graph of {}", modules.size(), configuration.getName());
+        return modules.values().stream();
+    }
+
+    private void resolveConcurrently(Collection<ManifestDependency> dependencies, int parallelism) {
+        var executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            var futures = dependencies.stream()
+                    .map(dependency -> CompletableFuture.runAsync(() -> resolveDependency(dependency), executor))
+                    .toArray(CompletableFuture[]::new);
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException runtimeException ? runtimeException : e;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void resolveDependency(ManifestDependency dependency) {
+        createSource(dependency).ifPresent(source -> transferDependencyFile(source, getOutputDirectory().get().getAsFile().toPath()));
+    }
 
     private void transferDependencyFile(DependencySource dependencySource, Path downloadDirectory) {
         var targetFilePath = downloadDirectory.resolve(dependencySource.filename());
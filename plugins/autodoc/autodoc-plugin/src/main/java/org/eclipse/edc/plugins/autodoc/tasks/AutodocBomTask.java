@@ -15,45 +15,55 @@
 package org.eclipse.edc.plugins.autodoc.tasks;
 
 import org.gradle.api.DefaultTask;
+import org.gradle.api.file.ConfigurableFileCollection;
+import org.gradle.api.tasks.CacheableTask;
+import org.gradle.api.tasks.IgnoreEmptyDirectories;
+import org.gradle.api.tasks.InputFiles;
 import org.gradle.api.tasks.OutputFile;
+import org.gradle.api.tasks.PathSensitive;
+import org.gradle.api.tasks.PathSensitivity;
+import org.gradle.api.tasks.SkipWhenEmpty;
 import org.gradle.api.tasks.TaskAction;
-import org.gradle.util.internal.GFileUtils;
 
 import java.io.File;
+import java.util.Comparator;
 
-public class AutodocBomTask extends DefaultTask {
+@CacheableTask
+public abstract class AutodocBomTask extends DefaultTask {
 
     public static final String NAME = "autodocBom";
     public static final String DESCRIPTION = """
             This task is intended for BOM modules. It resolves all autodoc manifests of modules that the BOM depends on
             and generates a merged manifest file. By default, this merged file is stored at {project}/build/edc.json.
             """;
-    private final JsonFileAppender appender;
+    private final String projectName;
     private File outputFile;
 
     public AutodocBomTask() {
-        appender = new JsonFileAppender(getLogger());
+        projectName = getProject().getName();
         outputFile = getProject().getLayout().getBuildDirectory().file(outputFileName()).get().getAsFile();
+        var inputDirectory = getProject().getLayout().getBuildDirectory().dir(Constants.DEFAULT_AUTODOC_FOLDER);
+        getManifests().from(getProject().fileTree(inputDirectory, tree -> tree.include("*.json")));
     }
 
+    /**
+     * The resolved manifests of the modules that the BOM depends on. The task is skipped if there are none.
+     */
+    @InputFiles
+    @SkipWhenEmpty
+    @IgnoreEmptyDirectories
+    @PathSensitive(PathSensitivity.RELATIVE)
+    public abstract ConfigurableFileCollection getManifests();
+
     @TaskAction
     public void mergeManifests() {
-        if (!getProject().getName().endsWith("-bom")) {
+        if (!projectName.endsWith("-bom")) {
             getLogger().warn("Project name does not end with '-bom'. Is this really a BOM module?");
         }
 
-        var inputDirectory = getProject().getLayout().getBuildDirectory().dir(Constants.DEFAULT_AUTODOC_FOLDER).get();
-        if (!inputDirectory.getAsFile().exists()) {
-            getLogger().info("Input directory does not exist: {}, Skipping", inputDirectory);
-            return;
-        }
-
-        var destinationFile = outputFile;
-
-        var files = GFileUtils.listFiles(inputDirectory.getAsFile(), new String[]{ "json" }, false);
-        getLogger().debug("Appending [{}] additional JSON files to the merged manifest", files.size());
-        files.forEach(f -> appender.append(destinationFile, f));
-
+        var files = getManifests().getFiles().stream().sorted(Comparator.comparing(File::getName)).toList();
+        getLogger().debug("Merging [{}] additional JSON files into the merged manifest", files.size());
+        new ManifestMerger(getLogger()).merge(outputFile, files);
     }
 
     @OutputFile
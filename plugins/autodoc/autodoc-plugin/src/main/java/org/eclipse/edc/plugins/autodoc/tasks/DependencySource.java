@@ -14,8 +14,6 @@
 
 package org.eclipse.edc.plugins.autodoc.tasks;
 
-import org.gradle.api.artifacts.Dependency;
-
 import java.io.InputStream;
 import java.net.URI;
 
@@ -25,7 +23,7 @@ import static java.lang.String.format;
  * Represents the combination of a dependency and a pointer (URL) to its physical location.
  */
 public abstract class DependencySource {
-    private final Dependency dependency;
+    private final ManifestDependency dependency;
     private final URI uri;
     private final String classifier;
     private final String type;
@@ -38,7 +36,7 @@ public abstract class DependencySource {
      * @param classifier what type of dependency we have, e.g. sources, sources, manifest etc
      * @param type       file extension
      */
-    public DependencySource(Dependency dependency, URI uri, String classifier, String type) {
+    public DependencySource(ManifestDependency dependency, URI uri, String classifier, String type) {
         this.dependency = dependency;
         this.uri = uri;
         this.classifier = classifier;
@@ -49,7 +47,7 @@ public abstract class DependencySource {
      * constructs the filename NAME-VERSION-CLASSIFIER.TYPE
      */
     String filename() {
-        return format("%s-%s-%s.%s", dependency.getName(), dependency.getVersion(), classifier, type);
+        return format("%s-%s-%s.%s", dependency.name(), dependency.version(), classifier, type);
     }
 
     /**
@@ -59,7 +57,7 @@ public abstract class DependencySource {
      */
     public abstract boolean exists();
 
-    public Dependency dependency() {
+    public ManifestDependency dependency() {
         return dependency;
     }
 
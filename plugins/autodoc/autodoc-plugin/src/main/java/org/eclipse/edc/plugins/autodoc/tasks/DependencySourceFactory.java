@@ -14,16 +14,23 @@
 
 package org.eclipse.edc.plugins.autodoc.tasks;
 
-import org.gradle.api.artifacts.Dependency;
+import org.jetbrains.annotations.Nullable;
 
 import java.net.URI;
 
 class DependencySourceFactory {
-    public static DependencySource createDependencySource(URI uri, Dependency dependency, String classifier, String type) {
+    public static DependencySource createDependencySource(URI uri, ManifestDependency dependency, String classifier, String type) {
+        return createDependencySource(uri, dependency, classifier, type, null);
+    }
+
+    public static DependencySource createDependencySource(URI uri, ManifestDependency dependency, String classifier, String type, @Nullable HttpTransport transport) {
         if (uri.getScheme().equals("file")) {
             return new FileSource(dependency, uri, classifier, type);
         } else if (uri.getScheme().startsWith("http")) {
-            return new HttpSource(dependency, uri, classifier, type);
+            if (transport == null) {
+                throw new IllegalArgumentException("No HTTP transport available for " + uri);
+            }
+            return new HttpSource(dependency, uri, classifier, type, transport);
         } else {
             throw new RuntimeException("Unknown URI scheme " + uri);
         }
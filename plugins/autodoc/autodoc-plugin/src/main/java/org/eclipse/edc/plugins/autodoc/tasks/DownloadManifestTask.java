@@ -14,31 +14,152 @@
 
 package org.eclipse.edc.plugins.autodoc.tasks;
 
+import org.eclipse.edc.plugins.autodoc.AutodocExtension;
+import org.eclipse.edc.plugins.autodoc.ManifestResolutionMode;
 import org.gradle.api.artifacts.Dependency;
+import org.gradle.api.artifacts.ExternalModuleDependency;
 import org.gradle.api.artifacts.ProjectDependency;
+import org.gradle.api.artifacts.component.ModuleComponentIdentifier;
+import org.gradle.api.artifacts.dsl.DependencyHandler;
 import org.gradle.api.artifacts.repositories.MavenArtifactRepository;
+import org.gradle.api.artifacts.result.ResolvedArtifactResult;
+import org.gradle.api.provider.ListProperty;
+import org.gradle.api.provider.Property;
+import org.gradle.api.provider.SetProperty;
+import org.gradle.api.tasks.Internal;
+import org.gradle.work.DisableCachingByDefault;
+import org.jetbrains.annotations.Nullable;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.time.Instant;
-import java.util.Objects;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
 
 import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+import static org.eclipse.edc.plugins.autodoc.AutodocExtension.DEFAULT_MAX_CONCURRENT_DOWNLOADS;
+import static org.eclipse.edc.plugins.autodoc.AutodocExtension.DEFAULT_NEGATIVE_CACHE_TTL;
+import static org.eclipse.edc.plugins.autodoc.AutodocExtension.DEFAULT_SNAPSHOT_METADATA_TTL;
 
-public class DownloadManifestTask extends AbstractManifestResolveTask {
+/**
+ * Downloads the manifests of external dependencies. Whether a remote manifest changed cannot be known without asking the
+ * repository, so the task is never up-to-date, and relies on the {@link ManifestMetadataIndex} to avoid needless downloads.
+ */
+@DisableCachingByDefault(because = "Downloads from remote repositories and tracks their freshness in its own metadata index")
+public abstract class DownloadManifestTask extends AbstractManifestResolveTask {
 
     public static final String NAME = "downloadManifests";
-    private static final Duration MAX_MANIFEST_AGE = Duration.ofHours(24);
+    private final Map<String, Semaphore> repositoryPermits = new ConcurrentHashMap<>();
+    private final Map<String, File> gradleResolvedManifests = new HashMap<>();
+    private ManifestMetadataIndex metadataIndex;
+
+    public DownloadManifestTask() {
+        getOutputs().upToDateWhen(task -> false);
+
+        var autodocExt = autodocExtension();
+        getMaxConcurrentDownloads().convention(autodocExt.getMaxConcurrentDownloads().orElse(DEFAULT_MAX_CONCURRENT_DOWNLOADS));
+        getNegativeCacheTtl().convention(autodocExt.getNegativeCacheTtl().orElse(DEFAULT_NEGATIVE_CACHE_TTL));
+        getSnapshotMetadataTtl().convention(autodocExt.getSnapshotMetadataTtl().orElse(DEFAULT_SNAPSHOT_METADATA_TTL));
+        getManifestResolution().convention(autodocExt.getManifestResolution().orElse(ManifestResolutionMode.HTTP));
+        getRepositoryUrls().convention(getProject().provider(() -> getProject().getRepositories().stream()
+                .filter(repo -> repo instanceof MavenArtifactRepository)
+                .map(repo -> ((MavenArtifactRepository) repo).getUrl().toString())
+                .toList()));
+
+        var dependencyHandler = getProject().getDependencies();
+        var manifests = getProject().getConfigurations().detachedConfiguration();
+        manifests.setTransitive(false);
+        manifests.withDependencies(dependencies -> getManifestDependencies().get().stream()
+                .filter(dependency -> dependency.group() != null && dependency.version() != null)
+                .forEach(dependency -> dependencies.add(createManifestDependency(dependencyHandler, dependency))));
+        var resolvedManifests = manifests.getIncoming().artifactView(view -> view.lenient(true)).getArtifacts().getResolvedArtifacts();
+        var noManifests = getProject().getProviders().provider(Set::<ResolvedArtifactResult>of);
+        getGradleResolvedManifests().convention(getManifestResolution().flatMap(mode -> mode == ManifestResolutionMode.GRADLE ? resolvedManifests : noManifests));
+    }
+
+    /**
+     * The shared HTTP transport that manifests are downloaded with.
+     */
+    @Internal
+    public abstract Property<HttpTransportService> getHttpTransport();
+
+    /**
+     * See {@link AutodocExtension#getMaxConcurrentDownloads()}.
+     */
+    @Internal
+    public abstract Property<Integer> getMaxConcurrentDownloads();
+
+    /**
+     * See {@link AutodocExtension#getNegativeCacheTtl()}.
+     */
+    @Internal
+    public abstract Property<Duration> getNegativeCacheTtl();
+
+    /**
+     * See {@link AutodocExtension#getSnapshotMetadataTtl()}.
+     */
+    @Internal
+    public abstract Property<Duration> getSnapshotMetadataTtl();
+
+    /**
+     * See {@link AutodocExtension#getManifestResolution()}.
+     */
+    @Internal
+    public abstract Property<ManifestResolutionMode> getManifestResolution();
+
+    /**
+     * The base URLs of the Maven repositories of the project, in declaration order.
+     */
+    @Internal
+    public abstract ListProperty<String> getRepositoryUrls();
+
+    /**
+     * In {@link ManifestResolutionMode#GRADLE} mode, the manifests of all dependencies, resolved at once through a detached
+     * configuration. Every dependency is requested as its {@code manifest}-classified {@code json} artifact, without transitive
+     * dependencies, and the configuration is resolved leniently, so that dependencies without a manifest are skipped. Empty in
+     * {@link ManifestResolutionMode#HTTP} mode.
+     */
+    @Internal
+    public abstract SetProperty<ResolvedArtifactResult> getGradleResolvedManifests();
+
+    /**
+     * Manifests of transitive dependencies are downloaded if {@link AutodocExtension#isIncludeTransitive()} is set.
+     */
+    @Override
+    protected boolean isResolveTransitively() {
+        return autodocExtension().isIncludeTransitive();
+    }
 
     @Override
     protected boolean includeDependency(Dependency dependency) {
         return !(dependency instanceof ProjectDependency);
     }
 
+    /**
+     * Downloads run on a pool sized so that every Maven repository can be sent up to
+     * {@link AutodocExtension#getMaxConcurrentDownloads()} requests at once.
+     */
+    @Override
+    protected int getParallelism() {
+        if (isGradleResolution()) {
+            return 1;
+        }
+        return maxConcurrentDownloads() * Math.max(1, getRepositoryUrls().get().size());
+    }
+
     @Override
     protected InputStream resolveManifest(DependencySource autodocManifest) {
         var inputStream = autodocManifest.inputStream();
@@ -50,73 +171,228 @@ public class DownloadManifestTask extends AbstractManifestResolveTask {
     }
 
     /**
-     * Creates a download request for a given dependency, classifier, and type. A download request is successfully created if:
+     * Creates a download request for a given dependency, classifier, and type. Every repository is probed with a single GET
+     * request, and a download request is successfully created if:
      * <ul>
-     *     <li>the file does not exist locally, e.g. from a previous run</li>
-     *     <li>the file exists locally, but is too old (older than 24hrs) </li>
-     *     <li>the file exists locally, but is not readable</li>
+     *     <li>the file does not exist locally, or it is a snapshot whose remote copy changed since it was downloaded</li>
      *     <li>the file is found in at least one Maven repository. MavenLocal is ignored.</li>
      * </ul>
+     * Released versions are immutable, so their manifests are never downloaded again once they exist locally. Snapshots are
+     * revalidated with a conditional GET using the {@code ETag} and {@code Last-Modified} validators of the previous download,
+     * and a {@code 304 Not Modified} response keeps the local file. Snapshot repositories store timestamped file names, so
+     * the file name is resolved from the repository's {@code maven-metadata.xml} first; timestamped files are immutable, and
+     * are not requested again while the snapshot does not change.
+     * <p>
+     * The repository a module's manifest was last found in is tried first. Repositories that answered {@code 404} for a
+     * coordinate are not asked again until {@link AutodocExtension#getNegativeCacheTtl()} has passed.
+     * <p>
+     * In {@link ManifestResolutionMode#GRADLE} mode, the manifest in {@link #getGradleResolvedManifests()} is copied from Gradle's
+     * module cache instead.
      *
      * @param dependency the dependency to download
      * @return an optional DownloadRequest if the artifact can be downloaded, otherwise an empty optional
      */
     @Override
-    protected Optional<DependencySource> createSource(Dependency dependency) {
-        if (isLocalFileValid(dependency)) {
-            getLogger().debug("Local file {} was deemed to be viable, will not download", dependency);
+    protected Optional<DependencySource> createSource(ManifestDependency dependency) {
+        if (isGradleResolution()) {
+            return Optional.ofNullable(gradleResolvedManifests.get(dependency.coordinates()))
+                    .map(file -> DependencySourceFactory.createDependencySource(file.toURI(), dependency, MANIFEST_CLASSIFIER, MANIFEST_TYPE));
+        }
+        var filename = format("%s-%s-%s.%s", dependency.name(), dependency.version(), MANIFEST_CLASSIFIER, MANIFEST_TYPE);
+        var localFile = getOutputDirectory().get().file(filename).getAsFile();
+        var hasLocalFile = localFile.isFile() && localFile.canRead();
+        if (hasLocalFile && !dependency.isSnapshot()) {
+            getLogger().debug("Local file {} is a release, will not download", localFile);
             return Optional.empty();
         }
-        var repos = getProject().getRepositories().stream().toList();
-        return repos.stream()
-                .filter(repo -> repo instanceof MavenArtifactRepository)
-                .map(repo -> (MavenArtifactRepository) repo)
-                .map(repo -> {
-                    var repoUrl = createArtifactUrl(dependency, repo);
-                    try {
-                        var ds = DependencySourceFactory.createDependencySource(URI.create(repoUrl), dependency, MANIFEST_CLASSIFIER, MANIFEST_TYPE);
-                        if (ds.exists()) {
-                            getLogger().debug("Manifest found for '{}' at {}", dependency.getName(), ds.uri());
-                            return ds;
-                        }
-                        getLogger().debug("Manifest not found for '{}' at {}", dependency.getName(), ds.uri());
-                        return null;
-                    } catch (IllegalArgumentException e) {
-                        return null;
+
+        var index = metadataIndex();
+        var metadata = hasLocalFile ? index.get(filename) : null;
+        var module = dependency.group() + ":" + dependency.name();
+        var coordinate = dependency.coordinates();
+        var now = Instant.now();
+        for (var repositoryUrl : repositoriesFor(module)) {
+            if (index.isNotFound(coordinate, repositoryUrl, now, getNegativeCacheTtl().get())) {
+                getLogger().debug("Manifest for '{}' was recently not found at {}, skipping", dependency.name(), repositoryUrl);
+                continue;
+            }
+            var permits = permitsFor(repositoryUrl);
+            acquire(permits);
+            try {
+                var fileVersion = dependency.isSnapshot() ? resolveSnapshotVersion(dependency, repositoryUrl, now) : dependency.version();
+                var repoUrl = createArtifactUrl(dependency, repositoryUrl, fileVersion);
+                if (metadata != null && metadata.uri().equals(repoUrl) && !fileVersion.equals(dependency.version())) {
+                    getLogger().debug("Manifest for '{}' is still at immutable {}, keeping {}", dependency.name(), repoUrl, localFile);
+                    return Optional.empty();
+                }
+                var ds = DependencySourceFactory.createDependencySource(URI.create(repoUrl), dependency, MANIFEST_CLASSIFIER, MANIFEST_TYPE,
+                        getHttpTransport().get().getTransport());
+                if (ds instanceof HttpSource httpSource && metadata != null && metadata.uri().equals(repoUrl)) {
+                    httpSource.withValidators(metadata.etag(), metadata.lastModified());
+                }
+                if (!ds.exists()) {
+                    getLogger().debug("Manifest not found for '{}' at {}", dependency.name(), ds.uri());
+                    if (ds instanceof HttpSource httpSource && httpSource.isNotFound()) {
+                        index.putNotFound(coordinate, repositoryUrl, now);
+                    }
+                    continue;
+                }
+                if (ds instanceof HttpSource httpSource) {
+                    if (httpSource.isNotModified()) {
+                        getLogger().debug("Manifest for '{}' at {} is not modified, keeping {}", dependency.name(), ds.uri(), localFile);
+                        return Optional.empty();
                     }
-                })
-                .filter(Objects::nonNull)
-                .findFirst();
+                    index.put(filename, coordinate, module, repositoryUrl, new ManifestMetadataIndex.Entry(repoUrl, httpSource.getEtag(), httpSource.getLastModified()));
+                }
+                getLogger().debug("Manifest found for '{}' at {}", dependency.name(), ds.uri());
+                return Optional.of(ds);
+            } catch (IllegalArgumentException e) {
+                getLogger().debug("Cannot download manifest for '{}' from {}: {}", dependency.name(), repositoryUrl, e.getMessage());
+            } finally {
+                permits.release();
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    protected void beforeResolution(Collection<ManifestDependency> dependencies) {
+        gradleResolvedManifests.clear();
+        if (!isGradleResolution()) {
+            return;
+        }
+        getGradleResolvedManifests().get().forEach(artifact -> {
+            if (artifact.getId().getComponentIdentifier() instanceof ModuleComponentIdentifier id) {
+                gradleResolvedManifests.put(id.getGroup() + ":" + id.getModule() + ":" + id.getVersion(), artifact.getFile());
+            }
+        });
+        getLogger().info("Resolved {} of {} manifests through Gradle", gradleResolvedManifests.size(), dependencies.size());
+    }
+
+    @Override
+    protected void onResolutionCompleted() {
+        try {
+            metadataIndex().save();
+        } catch (IOException e) {
+            getLogger().warn("Could not write manifest metadata index: {}", e.getMessage());
+        }
+    }
+
+    private synchronized ManifestMetadataIndex metadataIndex() {
+        if (metadataIndex == null) {
+            metadataIndex = ManifestMetadataIndex.load(getOutputDirectory().get().getAsFile().toPath(), getLogger());
+        }
+        return metadataIndex;
     }
 
-    private String createArtifactUrl(Dependency dep, MavenArtifactRepository repo) {
-        return format("%s%s/%s/%s/%s-%s-%s.%s", repo.getUrl(), dep.getGroup().replace(".", "/"), dep.getName(), dep.getVersion(),
-                dep.getName(), dep.getVersion(), MANIFEST_CLASSIFIER, MANIFEST_TYPE);
+    private boolean isGradleResolution() {
+        return getManifestResolution().get() == ManifestResolutionMode.GRADLE;
     }
 
     /**
-     * Checks if the manifest for a dependency exists locally. A local file is considered valid if:
-     * <ul>
-     *  <li>The output directory exists</li>
-     *  <li>The file exists locally and is readable</li>
-     *  <li>The file is not older than 24 hours</li>
-     * </ul>
-     *
-     * @param dep the dependency to check
-     * @return true if the local file is valid, false otherwise
+     * Returns the repositories in lookup order: the repository the module's manifest was last found in comes first, followed by
+     * all other repositories in declaration order.
+     */
+    private List<String> repositoriesFor(String module) {
+        var repositories = getRepositoryUrls().get();
+        var preferred = metadataIndex().preferredRepository(module);
+        if (preferred == null || !repositories.contains(preferred)) {
+            return repositories;
+        }
+        var ordered = new ArrayList<String>(repositories.size());
+        ordered.add(preferred);
+        repositories.stream().filter(repo -> !repo.equals(preferred)).forEach(ordered::add);
+        return ordered;
+    }
+
+    private int maxConcurrentDownloads() {
+        return Math.max(1, getMaxConcurrentDownloads().get());
+    }
+
+    private AutodocExtension autodocExtension() {
+        var autodocExt = getProject().getExtensions().findByType(AutodocExtension.class);
+        requireNonNull(autodocExt, "AutodocExtension cannot be null");
+        return autodocExt;
+    }
+
+    /**
+     * Returns the permits of the repository that the URL points into. URLs are matched against the repository base URLs, and
+     * every repository is limited to {@link AutodocExtension#getMaxConcurrentDownloads()} requests in flight.
      */
-    private boolean isLocalFileValid(Dependency dep) {
-        if (!downloadDirectory.toFile().exists()) return false;
-        var filename = format("%s-%s-%s.%s", dep.getName(), dep.getVersion(), MANIFEST_CLASSIFIER, MANIFEST_TYPE);
-        var filePath = downloadDirectory.resolve(filename);
-        var file = filePath.toFile();
-        if (!file.exists() || !file.canRead()) return false;
+    private Semaphore permitsFor(String url) {
+        var repositoryUrl = getRepositoryUrls().get().stream()
+                .filter(url::startsWith)
+                .findFirst()
+                .orElse(url);
+        return repositoryPermits.computeIfAbsent(repositoryUrl, k -> new Semaphore(maxConcurrentDownloads()));
+    }
 
+    private void acquire(Semaphore permits) {
         try {
-            var date = Files.getLastModifiedTime(filePath).toInstant();
-            return Duration.between(date, Instant.now()).compareTo(MAX_MANIFEST_AGE) <= 0;
-        } catch (IOException e) {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
             throw new RuntimeException(e);
         }
     }
+
+    /**
+     * Resolves the timestamped version that the manifest of a SNAPSHOT dependency is stored under in the repository, using the
+     * version-level {@code maven-metadata.xml}. Lookups are cached in the metadata index, and the metadata is only fetched
+     * again once {@link AutodocExtension#getSnapshotMetadataTtl()} has passed. If the repository does not store unique
+     * snapshots, or the metadata cannot be read, the plain SNAPSHOT version is returned.
+     */
+    private String resolveSnapshotVersion(ManifestDependency dependency, String repositoryUrl, Instant now) {
+        var index = metadataIndex();
+        var coordinate = dependency.coordinates();
+        var cached = index.snapshot(coordinate, repositoryUrl);
+        if (cached != null && cached.isFresh(now, getSnapshotMetadataTtl().get())) {
+            return cached.value() != null ? cached.value() : dependency.version();
+        }
+
+        var metadataUri = URI.create(format("%s%s/%s/%s/%s", repositoryUrl, dependency.group().replace(".", "/"), dependency.name(),
+                dependency.version(), MavenMetadata.FILENAME));
+        try {
+            var content = readMetadata(metadataUri);
+            var value = content != null ? MavenMetadata.snapshotVersion(content, dependency.version(), MANIFEST_CLASSIFIER, MANIFEST_TYPE) : null;
+            index.putSnapshot(coordinate, repositoryUrl, value, now);
+            return value != null ? value : dependency.version();
+        } catch (IOException e) {
+            getLogger().debug("Cannot read {}: {}", metadataUri, e.getMessage());
+            return cached != null && cached.value() != null ? cached.value() : dependency.version();
+        }
+    }
+
+    /**
+     * Reads the metadata file, returns null if it does not exist.
+     */
+    @Nullable
+    private byte[] readMetadata(URI uri) throws IOException {
+        if ("file".equals(uri.getScheme())) {
+            var path = Path.of(uri);
+            return Files.isRegularFile(path) ? Files.readAllBytes(path) : null;
+        }
+        var response = getHttpTransport().get().getTransport().get(uri);
+        return switch (response.statusCode()) {
+            case 200 -> response.body();
+            case 404, 410 -> null;
+            default -> throw new IOException("Unexpected status code " + response.statusCode());
+        };
+    }
+
+    private String createArtifactUrl(ManifestDependency dep, String repositoryUrl, String fileVersion) {
+        return format("%s%s/%s/%s/%s-%s-%s.%s", repositoryUrl, dep.group().replace(".", "/"), dep.name(), dep.version(),
+                dep.name(), fileVersion, MANIFEST_CLASSIFIER, MANIFEST_TYPE);
+    }
+
+    private static Dependency createManifestDependency(DependencyHandler dependencyHandler, ManifestDependency dependency) {
+        var manifestDependency = (ExternalModuleDependency) dependencyHandler.create(Map.of(
+                "group", dependency.group(),
+                "name", dependency.name(),
+                "version", dependency.version(),
+                "classifier", MANIFEST_CLASSIFIER,
+                "ext", MANIFEST_TYPE));
+        manifestDependency.setTransitive(false);
+        return manifestDependency;
+    }
 }
@@ -0,0 +1,149 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.plugins.autodoc.tasks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.eclipse.edc.plugins.autodoc.spi.ManifestFragmentCache;
+import org.eclipse.edc.plugins.autodoc.spi.ManifestWriter;
+import org.eclipse.edc.runtime.metamodel.domain.EdcModule;
+import org.gradle.api.GradleException;
+import org.gradle.api.logging.Logger;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.StreamSupport;
+
+import static java.lang.String.format;
+
+/**
+ * Stores the rendered fragments of modules in a directory, one file per fragment. The file name is the SHA-256 hash of the
+ * content of the module and of the version of the renderers, so a fragment is rendered again if either of them changed.
+ * <p>
+ * The extensions of a module are a set, whose order is not stable between builds, so they are hashed in a canonical order.
+ * Fragments that were not used by a conversion are deleted by {@link #prune()}, which keeps the cache as large as the manifest.
+ */
+class FileFragmentCache implements ManifestFragmentCache {
+    private static final String SUFFIX = ".fragment";
+    private final Path directory;
+    private final ObjectMapper objectMapper;
+    private final Logger logger;
+    private final byte[] rendererVersion;
+    private final Set<String> usedKeys = ConcurrentHashMap.newKeySet();
+
+    FileFragmentCache(Path directory, ObjectMapper objectMapper, Logger logger) {
+        this.directory = directory;
+        this.objectMapper = objectMapper;
+        this.logger = logger;
+        this.rendererVersion = rendererVersion().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public byte @Nullable [] get(EdcModule module) {
+        var file = directory.resolve(key(module) + SUFFIX);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try {
+            return Files.readAllBytes(file);
+        } catch (IOException e) {
+            logger.debug("Cannot read cached fragment {}, rendering it again", file, e);
+            return null;
+        }
+    }
+
+    @Override
+    public void put(EdcModule module, byte[] fragment) {
+        var file = directory.resolve(key(module) + SUFFIX);
+        try {
+            Files.createDirectories(directory);
+            var temporaryFile = Files.createTempFile(directory, "fragment", ".tmp");
+            Files.write(temporaryFile, fragment);
+            Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.debug("Cannot cache fragment {}", file, e);
+        }
+    }
+
+    /**
+     * Deletes all fragments that were not used since the cache was created.
+     */
+    void prune() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (var files = Files.list(directory)) {
+            files.filter(file -> !usedKeys.contains(file.getFileName().toString().replace(SUFFIX, "")))
+                    .forEach(this::delete);
+        } catch (IOException e) {
+            logger.debug("Cannot prune the fragment cache {}", directory, e);
+        }
+    }
+
+    private String key(EdcModule module) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256");
+            digest.update(rendererVersion);
+            var tree = (ObjectNode) objectMapper.valueToTree(module);
+            var extensions = tree.remove("extensions");
+            digest.update(objectMapper.writeValueAsBytes(tree));
+            if (extensions != null) {
+                StreamSupport.stream(extensions.spliterator(), false)
+                        .map(Object::toString)
+                        .sorted()
+                        .forEach(extension -> digest.update(extension.getBytes(StandardCharsets.UTF_8)));
+            }
+            var key = HexFormat.of().formatHex(digest.digest());
+            usedKeys.add(key);
+            return key;
+        } catch (NoSuchAlgorithmException | IOException e) {
+            throw new GradleException(format("Cannot compute the cache key of module %s", module.getModulePath()), e);
+        }
+    }
+
+    private void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.debug("Cannot delete {}", file, e);
+        }
+    }
+
+    /**
+     * Identifies the renderers by the location and the modification time of the archive they are loaded from, which changes
+     * whenever a different version of the plugin is used.
+     */
+    private static String rendererVersion() {
+        var codeSource = ManifestWriter.class.getProtectionDomain().getCodeSource();
+        if (codeSource == null) {
+            return "unknown";
+        }
+        var location = codeSource.getLocation();
+        try {
+            return location + "@" + Files.getLastModifiedTime(Path.of(location.toURI())).toMillis();
+        } catch (Exception e) {
+            return location.toString();
+        }
+    }
+}
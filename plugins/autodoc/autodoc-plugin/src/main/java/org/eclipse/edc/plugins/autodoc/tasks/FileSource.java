@@ -14,8 +14,6 @@
 
 package org.eclipse.edc.plugins.autodoc.tasks;
 
-import org.gradle.api.artifacts.Dependency;
-
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
@@ -36,7 +34,7 @@ public class FileSource extends DependencySource {
      * @param classifier what type of dependency we have, e.g. sources, sources, manifest etc
      * @param type       file extension
      */
-    public FileSource(Dependency dependency, URI uri, String classifier, String type) {
+    public FileSource(ManifestDependency dependency, URI uri, String classifier, String type) {
         super(dependency, uri, classifier, type);
     }
 
@@ -0,0 +1,71 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.plugins.autodoc.tasks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.plugins.autodoc.html.HtmlSiteRenderer;
+import org.eclipse.edc.plugins.autodoc.json.JsonManifestReader;
+import org.eclipse.edc.plugins.autodoc.spi.ManifestWriter;
+import org.gradle.api.DefaultTask;
+import org.gradle.api.file.ConfigurableFileCollection;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.tasks.CacheableTask;
+import org.gradle.api.tasks.InputFiles;
+import org.gradle.api.tasks.OutputDirectory;
+import org.gradle.api.tasks.PathSensitive;
+import org.gradle.api.tasks.PathSensitivity;
+import org.gradle.api.tasks.SkipWhenEmpty;
+import org.gradle.api.tasks.TaskAction;
+
+import static java.lang.String.format;
+
+/**
+ * Renders the manifest of a project as a multi-page HTML site, with one page per module, an index page and a shared
+ * stylesheet, see {@link HtmlSiteRenderer}. The manifest is the same as the one of {@link MarkdownRendererTask}.
+ */
+@CacheableTask
+public abstract class HtmlSiteTask extends DefaultTask {
+    public static final String NAME = "doc2site";
+
+    public HtmlSiteTask() {
+        var buildDirectory = getProject().getLayout().getBuildDirectory();
+        var manifestName = getProject().getRootProject().equals(getProject()) ? "manifest.json" : "edc.json";
+        // a file tree is empty if the manifest does not exist, which lets the task be skipped
+        getManifestFile().from(getProject().files(buildDirectory.file(manifestName)).getAsFileTree());
+        getOutputDirectory().convention(buildDirectory.dir(getProject().getName() + "-site"));
+    }
+
+    /**
+     * The manifest that is rendered.
+     */
+    @InputFiles
+    @SkipWhenEmpty
+    @PathSensitive(PathSensitivity.RELATIVE)
+    public abstract ConfigurableFileCollection getManifestFile();
+
+    /**
+     * The directory of the site. By default, it is {@code <project>/build/<project name>-site}.
+     */
+    @OutputDirectory
+    public abstract DirectoryProperty getOutputDirectory();
+
+    @TaskAction
+    public void renderSite() {
+        var manifest = getManifestFile().getSingleFile();
+        var outputDirectory = getOutputDirectory().get().getAsFile().toPath();
+        getLogger().lifecycle(format("Rendering %s for input %s", outputDirectory, manifest));
+        new ManifestWriter(new HtmlSiteRenderer(outputDirectory)).convert(new JsonManifestReader(new ObjectMapper()), manifest.toPath());
+    }
+}
@@ -14,20 +14,26 @@
 
 package org.eclipse.edc.plugins.autodoc.tasks;
 
-import org.gradle.api.artifacts.Dependency;
+import org.jetbrains.annotations.Nullable;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.util.HashMap;
 
 /**
- * A dependency that is located in a remote repository, such as Maven Central
+ * A dependency that is located in a remote repository, such as Maven Central. All requests go through the shared {@link HttpTransport}.
+ * <p>
+ * The file is fetched with a single, optionally conditional, GET request which is performed at most once per source: both
+ * {@link #exists()} and {@link #inputStream()} are answered from that response.
  */
 public class HttpSource extends DependencySource {
-    private final HttpClient httpClient;
+    private final HttpTransport transport;
+    private String etag;
+    private String lastModified;
+    private HttpResponse<byte[]> response;
 
 
     /**
@@ -37,49 +43,100 @@ public class HttpSource extends DependencySource {
      * @param uri        the location where the physical file exists
      * @param classifier what type of dependency we have, e.g. sources, sources, manifest etc
      * @param type       file extension
+     * @param transport  the transport used for all requests
      */
-    public HttpSource(Dependency dependency, URI uri, String classifier, String type) {
+    public HttpSource(ManifestDependency dependency, URI uri, String classifier, String type, HttpTransport transport) {
         super(dependency, uri, classifier, type);
-        httpClient = HttpClient.newHttpClient();
+        this.transport = transport;
+    }
 
+    /**
+     * Makes the request conditional, using the validators of a previously downloaded copy of the file.
+     *
+     * @param etag         sent as {@code If-None-Match}, may be null
+     * @param lastModified sent as {@code If-Modified-Since}, may be null
+     * @return this source
+     */
+    public HttpSource withValidators(@Nullable String etag, @Nullable String lastModified) {
+        this.etag = etag;
+        this.lastModified = lastModified;
+        return this;
     }
 
     /**
-     * A HEAD request is performed to check if the file is actually present at the remote location.
+     * Fetches the file and checks whether it is present at the remote location. A {@code 304 Not Modified} response counts as
+     * present, see {@link #isNotModified()}.
      */
     @Override
     public boolean exists() {
-        var headRequest = HttpRequest.newBuilder()
-                .uri(uri())
-                .method("HEAD", HttpRequest.BodyPublishers.noBody())
-                .build();
         try {
-            var response = httpClient.send(headRequest, HttpResponse.BodyHandlers.discarding());
-            return response.statusCode() == 200;
+            var statusCode = fetch().statusCode();
+            return statusCode == 200 || statusCode == 304;
         } catch (IOException e) {
             return false;
-        } catch (InterruptedException e) {
-            throw new RuntimeException(e);
         }
     }
 
     /**
-     * Opens an input stream to the remote file. If the remote file does not exist, {@code null} is returned.
+     * Whether the remote file is unchanged with respect to the validators, i.e. the previously downloaded copy is still valid.
+     */
+    public boolean isNotModified() {
+        return response != null && response.statusCode() == 304;
+    }
+
+    /**
+     * Whether the remote repository definitively does not have the file, i.e. it answered with {@code 404} or {@code 410}.
+     * Failed requests, e.g. timeouts, do not count as not found.
+     */
+    public boolean isNotFound() {
+        return response != null && (response.statusCode() == 404 || response.statusCode() == 410);
+    }
+
+    /**
+     * The {@code ETag} header of the response, or null if the file was not fetched or the header is absent.
+     */
+    @Nullable
+    public String getEtag() {
+        return response != null ? response.headers().firstValue("ETag").orElse(etag) : null;
+    }
+
+    /**
+     * The {@code Last-Modified} header of the response, or null if the file was not fetched or the header is absent.
+     */
+    @Nullable
+    public String getLastModified() {
+        return response != null ? response.headers().firstValue("Last-Modified").orElse(lastModified) : null;
+    }
+
+    /**
+     * Opens an input stream to the remote file. If the remote file does not exist or was not modified, {@code null} is returned.
      *
-     * @throws RuntimeException if the HTTP request raises an {@link IOException} or an {@link InterruptedException}
+     * @throws RuntimeException if the HTTP request raises an {@link IOException}, e.g. because it timed out
      */
     @Override
     public InputStream inputStream() {
-        var request = HttpRequest.newBuilder().uri(uri()).GET().build();
-        HttpResponse<InputStream> response;
         try {
-            response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
-        } catch (IOException | InterruptedException e) {
+            var fetched = fetch();
+            if (fetched.statusCode() == 200) {
+                return new ByteArrayInputStream(fetched.body());
+            }
+            return null;
+        } catch (IOException e) {
             throw new RuntimeException(e);
         }
-        if (response.statusCode() == 200) {
-            return response.body();
+    }
+
+    private synchronized HttpResponse<byte[]> fetch() throws IOException {
+        if (response == null) {
+            var headers = new HashMap<String, String>();
+            if (etag != null) {
+                headers.put("If-None-Match", etag);
+            }
+            if (lastModified != null) {
+                headers.put("If-Modified-Since", lastModified);
+            }
+            response = transport.get(uri(), headers);
         }
-        return null;
+        return response;
     }
 }
@@ -0,0 +1,164 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.plugins.autodoc.tasks;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.lang.String.format;
+
+/**
+ * HTTP transport for remote dependency sources. One pooled {@link HttpClient} is shared by all requests, so connections are kept
+ * alive and multiplexed over HTTP/2 where the repository supports it.
+ * <p>
+ * Every request is bounded by the read timeout, which applies until the response headers are received, and by the download
+ * deadline, which applies to the complete exchange including the body. Bytes and latencies are recorded per repository, where
+ * a repository is identified by the scheme and authority of the request URI.
+ */
+public class HttpTransport {
+    private final HttpClient httpClient;
+    private final Duration readTimeout;
+    private final Duration downloadDeadline;
+    private final Map<String, RepositoryMetrics> metrics = new ConcurrentHashMap<>();
+
+    public HttpTransport(Duration connectTimeout, Duration readTimeout, Duration downloadDeadline) {
+        this.readTimeout = readTimeout;
+        this.downloadDeadline = downloadDeadline;
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .connectTimeout(connectTimeout)
+                .build();
+    }
+
+    /**
+     * Sends a GET request and reads the complete body.
+     *
+     * @return the response
+     * @throws IOException if the request fails or exceeds the read timeout or download deadline
+     */
+    public HttpResponse<byte[]> get(URI uri) throws IOException {
+        return get(uri, Map.of());
+    }
+
+    /**
+     * Sends a GET request with additional headers, e.g. conditional request headers, and reads the complete body.
+     *
+     * @return the response
+     * @throws IOException if the request fails or exceeds the read timeout or download deadline
+     */
+    public HttpResponse<byte[]> get(URI uri, Map<String, String> headers) throws IOException {
+        var request = HttpRequest.newBuilder(uri).GET();
+        headers.forEach(request::header);
+        return send(request, HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    /**
+     * Returns a snapshot view of the metrics, keyed by repository.
+     */
+    public Map<String, RepositoryMetrics> getMetrics() {
+        return Collections.unmodifiableMap(metrics);
+    }
+
+    private <T> HttpResponse<T> send(HttpRequest.Builder requestBuilder, HttpResponse.BodyHandler<T> bodyHandler) throws IOException {
+        var request = requestBuilder.timeout(readTimeout).build();
+        var repositoryMetrics = metrics.computeIfAbsent(repositoryOf(request.uri()), k -> new RepositoryMetrics());
+        var start = System.nanoTime();
+        var future = httpClient.sendAsync(request, bodyHandler);
+        try {
+            var response = future.get(downloadDeadline.toMillis(), TimeUnit.MILLISECONDS);
+            repositoryMetrics.record(System.nanoTime() - start, response.body() instanceof byte[] body ? body.length : 0);
+            return response;
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            repositoryMetrics.recordFailure();
+            throw new HttpTimeoutException(format("Request to %s exceeded the download deadline of %s", request.uri(), downloadDeadline));
+        } catch (ExecutionException e) {
+            repositoryMetrics.recordFailure();
+            throw e.getCause() instanceof IOException ioException ? ioException : new IOException(e.getCause());
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        }
+    }
+
+    private String repositoryOf(URI uri) {
+        return uri.getScheme() + "://" + uri.getRawAuthority();
+    }
+
+    /**
+     * Request metrics of one repository.
+     */
+    public static class RepositoryMetrics {
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+        private final LongAdder totalLatency = new LongAdder();
+        private final LongAccumulator maxLatency = new LongAccumulator(Math::max, 0);
+
+        public long getRequests() {
+            return requests.sum();
+        }
+
+        public long getFailures() {
+            return failures.sum();
+        }
+
+        public long getBytes() {
+            return bytes.sum();
+        }
+
+        public Duration getTotalLatency() {
+            return Duration.ofNanos(totalLatency.sum());
+        }
+
+        public Duration getMaxLatency() {
+            return Duration.ofNanos(maxLatency.get());
+        }
+
+        @Override
+        public String toString() {
+            var count = Math.max(1, getRequests());
+            return format("%d requests (%d failed), %d bytes, average latency %d ms, max latency %d ms", getRequests(), getFailures(), getBytes(),
+                    getTotalLatency().toMillis() / count, getMaxLatency().toMillis());
+        }
+
+        void record(long latencyNanos, long byteCount) {
+            requests.increment();
+            bytes.add(byteCount);
+            totalLatency.add(latencyNanos);
+            maxLatency.accumulate(latencyNanos);
+        }
+
+        void recordFailure() {
+            requests.increment();
+            failures.increment();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.plugins.autodoc.tasks;
+
+import org.gradle.api.logging.Logger;
+import org.gradle.api.logging.Logging;
+import org.gradle.api.provider.Property;
+import org.gradle.api.services.BuildService;
+import org.gradle.api.services.BuildServiceParameters;
+
+import java.time.Duration;
+
+/**
+ * Build service that provides the {@link HttpTransport} shared by all autodoc tasks of a build. The transport is created on first
+ * use, and the collected metrics are logged when the build finishes.
+ */
+public abstract class HttpTransportService implements BuildService<HttpTransportService.Params>, AutoCloseable {
+    public static final String NAME = "autodocHttpTransport";
+    private final Logger logger = Logging.getLogger(HttpTransportService.class);
+    private HttpTransport transport;
+
+    public synchronized HttpTransport getTransport() {
+        if (transport == null) {
+            var parameters = getParameters();
+            transport = new HttpTransport(parameters.getConnectTimeout().get(), parameters.getReadTimeout().get(), parameters.getDownloadDeadline().get());
+        }
+        return transport;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (transport != null) {
+            transport.getMetrics().forEach((repository, metrics) -> logger.info("autodoc: {}: {}", repository, metrics));
+        }
+    }
+
+    public interface Params extends BuildServiceParameters {
+        Property<Duration> getConnectTimeout();
+
+        Property<Duration> getReadTimeout();
+
+        Property<Duration> getDownloadDeadline();
+    }
+}
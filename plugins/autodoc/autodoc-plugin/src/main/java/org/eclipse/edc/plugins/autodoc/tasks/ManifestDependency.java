@@ -0,0 +1,50 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.plugins.autodoc.tasks;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.Serializable;
+
+/**
+ * A dependency whose manifest is resolved. Dependencies are collected while the task graph is built, so that resolving their
+ * manifests does not need the Gradle model, which is not available to tasks that are loaded from the configuration cache.
+ *
+ * @param group         the group of the dependency
+ * @param name          the name of the dependency
+ * @param version       the version of the dependency
+ * @param localManifest the manifest of a project dependency, null for external dependencies
+ * @param projectPath   the path of the project that writes the local manifest, null for external dependencies
+ */
+public record ManifestDependency(String group, String name, String version, @Nullable File localManifest,
+                                 @Nullable String projectPath) implements Serializable {
+
+    /**
+     * The coordinates of the dependency in the form {@code group:name:version}.
+     */
+    public String coordinates() {
+        return group + ":" + name + ":" + version;
+    }
+
+    public boolean isSnapshot() {
+        return version != null && version.endsWith("-SNAPSHOT");
+    }
+
+    @Override
+    public String toString() {
+        return coordinates();
+    }
+}
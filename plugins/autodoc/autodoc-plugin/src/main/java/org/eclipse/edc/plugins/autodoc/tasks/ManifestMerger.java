@@ -0,0 +1,119 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.plugins.autodoc.tasks;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonToken;
+import org.gradle.api.GradleException;
+import org.gradle.api.logging.Logger;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collection;
+
+import static java.lang.String.format;
+
+/**
+ * Merges JSON manifest files, each containing a top-level array, into one destination array. The elements of the sources are
+ * copied token by token with a {@link com.fasterxml.jackson.core.JsonParser}, nothing is materialized in memory, so merging runs
+ * in a single pass, in time linear to the input size with a bounded heap.
+ */
+class ManifestMerger {
+    private final Logger logger;
+    private final JsonFactory factory = new JsonFactory();
+
+    ManifestMerger(Logger logger) {
+        this.logger = logger;
+    }
+
+    /**
+     * Writes the elements of all source files into a new array in the destination file, replacing any previous content.
+     * Sources that are not valid JSON arrays are skipped.
+     *
+     * @param destination The file that the merged array is written to
+     * @param sources     The files whose elements are merged
+     */
+    public void merge(File destination, Collection<File> sources) {
+        sources.stream().filter(source -> !source.exists()).findFirst().ifPresent(source -> {
+            throw new GradleException(format("Source file [%s] does not exist!", source));
+        });
+        var validSources = sources.stream().filter(this::isJsonArray).toList();
+        checkOrCreate(destination);
+
+        try (var generator = factory.createGenerator(destination, JsonEncoding.UTF8)) {
+            generator.setRootValueSeparator(null);
+            generator.writeRaw('[');
+            var hasElements = false;
+            for (var source : validSources) {
+                logger.lifecycle(format("Merging contents of [%s] into [%s]", source, destination));
+                hasElements = copyElements(source, generator, hasElements);
+            }
+            generator.writeRaw(']');
+        } catch (IOException e) {
+            throw new GradleException(format("Error writing merged manifest [%s]", destination), e);
+        }
+    }
+
+    private boolean copyElements(File source, JsonGenerator generator, boolean hasElements) throws IOException {
+        try (var parser = factory.createParser(source)) {
+            parser.nextToken();
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                if (hasElements) {
+                    generator.writeRaw(',');
+                }
+                generator.copyCurrentStructure(parser);
+                hasElements = true;
+            }
+        }
+        return hasElements;
+    }
+
+    /**
+     * Checks that the file contains a single top-level JSON array by streaming through it once.
+     */
+    private boolean isJsonArray(File source) {
+        try (var parser = factory.createParser(source)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                logger.warn("Skipping [{}], it does not contain a JSON array", source);
+                return false;
+            }
+            parser.skipChildren();
+            return parser.nextToken() == null;
+        } catch (IOException e) {
+            logger.warn("Skipping [{}], it is not valid JSON: {}", source, e.getMessage());
+            return false;
+        }
+    }
+
+    private void checkOrCreate(File destination) {
+        if (!destination.exists()) {
+            logger.warn("Destination file {} does not exist, creating...", destination);
+            try {
+                if (!destination.createNewFile()) {
+                    destinationError(destination, null);
+                }
+            } catch (IOException e) {
+                destinationError(destination, e);
+            }
+        }
+    }
+
+    private void destinationError(File destination, Throwable t) {
+        logger.error("Could not create destination file {}", destination);
+        throw new GradleException("Error creating destination file", t);
+    }
+}
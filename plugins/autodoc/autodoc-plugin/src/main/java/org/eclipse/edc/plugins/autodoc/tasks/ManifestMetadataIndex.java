@@ -0,0 +1,201 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.plugins.autodoc.tasks;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.gradle.api.logging.Logger;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sidecar index of the manifest downloads, persisted next to the downloaded manifests. It does not carry a {@code .json}
+ * extension, so that it is never merged as a manifest. The index records:
+ * <ul>
+ *     <li>the HTTP validators of every downloaded manifest, keyed by the manifest file name</li>
+ *     <li>negative results, i.e. repositories that did not have a manifest for a coordinate, with the time of the lookup</li>
+ *     <li>the repository a module's manifest was last found in, keyed by {@code group:name}</li>
+ *     <li>the timestamped versions that SNAPSHOT coordinates resolved to in each repository, with the time of the lookup</li>
+ * </ul>
+ */
+class ManifestMetadataIndex {
+    static final String INDEX_FILENAME = ".autodoc-metadata";
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+            .enable(SerializationFeature.INDENT_OUTPUT)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    private final Path indexFile;
+    private final Map<String, Entry> manifests;
+    private final Map<String, Map<String, Long>> notFound;
+    private final Map<String, String> repositories;
+    private final Map<String, Map<String, SnapshotEntry>> snapshots;
+    private volatile boolean modified;
+
+    private ManifestMetadataIndex(Path indexFile, Content content) {
+        this.indexFile = indexFile;
+        manifests = new ConcurrentHashMap<>(content.manifests());
+        notFound = new ConcurrentHashMap<>();
+        content.notFound().forEach((coordinate, lookups) -> notFound.put(coordinate, new ConcurrentHashMap<>(lookups)));
+        repositories = new ConcurrentHashMap<>(content.repositories());
+        snapshots = new ConcurrentHashMap<>();
+        content.snapshots().forEach((coordinate, lookups) -> snapshots.put(coordinate, new ConcurrentHashMap<>(lookups)));
+    }
+
+    /**
+     * Loads the index from the given directory. A missing or unreadable index yields an empty one.
+     */
+    static ManifestMetadataIndex load(Path directory, Logger logger) {
+        var indexFile = directory.resolve(INDEX_FILENAME);
+        if (Files.isRegularFile(indexFile)) {
+            try {
+                return new ManifestMetadataIndex(indexFile, MAPPER.readValue(indexFile.toFile(), Content.class));
+            } catch (IOException e) {
+                logger.warn("Could not read manifest metadata index {}, starting with an empty one: {}", indexFile, e.getMessage());
+            }
+        }
+        return new ManifestMetadataIndex(indexFile, new Content(null, null, null, null));
+    }
+
+    @Nullable
+    Entry get(String filename) {
+        return manifests.get(filename);
+    }
+
+    /**
+     * Records a successful download. The repository becomes the preferred repository of the module, and any negative result
+     * for the coordinate in that repository is removed.
+     */
+    void put(String filename, String coordinate, String module, String repositoryUrl, Entry entry) {
+        manifests.put(filename, entry);
+        repositories.put(module, repositoryUrl);
+        var lookups = notFound.get(coordinate);
+        if (lookups != null) {
+            lookups.remove(repositoryUrl);
+        }
+        modified = true;
+    }
+
+    /**
+     * Records that the repository does not have a manifest for the coordinate.
+     */
+    void putNotFound(String coordinate, String repositoryUrl, Instant now) {
+        notFound.computeIfAbsent(coordinate, k -> new ConcurrentHashMap<>()).put(repositoryUrl, now.toEpochMilli());
+        modified = true;
+    }
+
+    /**
+     * Checks whether the repository was found not to have a manifest for the coordinate within the given time to live.
+     */
+    boolean isNotFound(String coordinate, String repositoryUrl, Instant now, Duration ttl) {
+        var lookups = notFound.get(coordinate);
+        var lookup = lookups != null ? lookups.get(repositoryUrl) : null;
+        return lookup != null && Instant.ofEpochMilli(lookup).plus(ttl).isAfter(now);
+    }
+
+    /**
+     * Returns the repository that the manifest of the module was last found in, or null if there is none.
+     */
+    @Nullable
+    String preferredRepository(String module) {
+        return repositories.get(module);
+    }
+
+    /**
+     * Returns the snapshot version that the coordinate resolved to in the repository, or null if it was never looked up.
+     */
+    @Nullable
+    SnapshotEntry snapshot(String coordinate, String repositoryUrl) {
+        var lookups = snapshots.get(coordinate);
+        return lookups != null ? lookups.get(repositoryUrl) : null;
+    }
+
+    /**
+     * Records the snapshot version that the coordinate resolved to in the repository.
+     *
+     * @param value the timestamped version, or null if the repository does not store unique snapshots of the coordinate
+     */
+    void putSnapshot(String coordinate, String repositoryUrl, @Nullable String value, Instant now) {
+        snapshots.computeIfAbsent(coordinate, k -> new ConcurrentHashMap<>()).put(repositoryUrl, new SnapshotEntry(value, now.toEpochMilli()));
+        modified = true;
+    }
+
+    /**
+     * Writes the index if it was modified. Entries are sorted, and the file is replaced atomically.
+     */
+    void save() throws IOException {
+        if (!modified) {
+            return;
+        }
+        var sortedNotFound = new TreeMap<String, Map<String, Long>>();
+        notFound.forEach((coordinate, lookups) -> {
+            if (!lookups.isEmpty()) {
+                sortedNotFound.put(coordinate, new TreeMap<>(lookups));
+            }
+        });
+        var sortedSnapshots = new TreeMap<String, Map<String, SnapshotEntry>>();
+        snapshots.forEach((coordinate, lookups) -> sortedSnapshots.put(coordinate, new TreeMap<>(lookups)));
+        Files.createDirectories(indexFile.getParent());
+        var tempFile = Files.createTempFile(indexFile.getParent(), INDEX_FILENAME, ".tmp");
+        MAPPER.writeValue(tempFile.toFile(), new Content(new TreeMap<>(manifests), sortedNotFound, new TreeMap<>(repositories), sortedSnapshots));
+        Files.move(tempFile, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        modified = false;
+    }
+
+    /**
+     * Metadata of one downloaded manifest.
+     *
+     * @param uri          the location the manifest was downloaded from
+     * @param etag         the {@code ETag} response header, if any
+     * @param lastModified the {@code Last-Modified} response header, if any
+     */
+    record Entry(String uri, @Nullable String etag, @Nullable String lastModified) {
+    }
+
+    /**
+     * The version a SNAPSHOT coordinate resolved to in one repository.
+     *
+     * @param value      the timestamped version, or null if the repository does not store unique snapshots of the coordinate
+     * @param resolvedAt the time of the lookup in epoch milliseconds
+     */
+    record SnapshotEntry(@Nullable String value, long resolvedAt) {
+        boolean isFresh(Instant now, Duration ttl) {
+            return Instant.ofEpochMilli(resolvedAt).plus(ttl).isAfter(now);
+        }
+    }
+
+    /**
+     * The persisted form of the index.
+     */
+    record Content(Map<String, Entry> manifests, Map<String, Map<String, Long>> notFound, Map<String, String> repositories,
+                   Map<String, Map<String, SnapshotEntry>> snapshots) {
+        Content {
+            manifests = manifests != null ? manifests : Map.of();
+            notFound = notFound != null ? notFound : Map.of();
+            repositories = repositories != null ? repositories : Map.of();
+            snapshots = snapshots != null ? snapshots : Map.of();
+        }
+    }
+}
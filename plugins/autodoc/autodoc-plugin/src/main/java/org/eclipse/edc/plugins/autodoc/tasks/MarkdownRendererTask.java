@@ -15,13 +15,25 @@
 package org.eclipse.edc.plugins.autodoc.tasks;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import org.eclipse.edc.plugins.autodoc.html.HtmlManifestRenderer;
+import org.eclipse.edc.plugins.autodoc.html.HtmlSearchIndex;
+import org.eclipse.edc.plugins.autodoc.html.StreamingHtmlManifestRenderer;
 import org.eclipse.edc.plugins.autodoc.json.JsonManifestReader;
-import org.eclipse.edc.plugins.autodoc.markdown.MarkdownManifestRenderer;
+import org.eclipse.edc.plugins.autodoc.markdown.StreamingMarkdownManifestRenderer;
+import org.eclipse.edc.plugins.autodoc.spi.ManifestReader;
 import org.eclipse.edc.plugins.autodoc.spi.ManifestRenderer;
 import org.eclipse.edc.plugins.autodoc.spi.ManifestWriter;
 import org.gradle.api.DefaultTask;
 import org.gradle.api.GradleException;
+import org.gradle.api.file.ConfigurableFileCollection;
+import org.gradle.api.file.RegularFileProperty;
+import org.gradle.api.provider.Property;
+import org.gradle.api.tasks.CacheableTask;
+import org.gradle.api.tasks.InputFiles;
+import org.gradle.api.tasks.Internal;
+import org.gradle.api.tasks.OutputFile;
+import org.gradle.api.tasks.PathSensitive;
+import org.gradle.api.tasks.PathSensitivity;
+import org.gradle.api.tasks.SkipWhenEmpty;
 import org.gradle.api.tasks.TaskAction;
 
 import java.io.File;
@@ -29,63 +41,134 @@ import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
-import java.nio.file.Path;
-import java.util.function.Function;
 
 import static java.lang.String.format;
 
-public class MarkdownRendererTask extends DefaultTask {
-
-    private final JsonManifestReader reader = new JsonManifestReader(new ObjectMapper());
-    private final Function<OutputStream, ManifestRenderer> manifestRendererSupplier;
-    private final String fileExtension;
+/**
+ * Renders the manifest of a project, which is the merged {@code manifest.json} for the root project, and the {@code edc.json}
+ * for all other projects. The task is skipped if the manifest does not exist. The task does not access the project when it is
+ * executed, which makes it compatible with the configuration cache.
+ */
+@CacheableTask
+public abstract class MarkdownRendererTask extends DefaultTask {
 
-    public MarkdownRendererTask(Function<OutputStream, ManifestRenderer> manifestRendererSupplier, String fileExtension) {
-        this.manifestRendererSupplier = manifestRendererSupplier;
-        this.fileExtension = fileExtension;
+    public MarkdownRendererTask(String fileExtension) {
+        var buildDirectory = getProject().getLayout().getBuildDirectory();
+        var manifestName = getProject().getRootProject().equals(getProject()) ? "manifest.json" : "edc.json";
+        // a file tree is empty if the manifest does not exist, which lets the task be skipped
+        getManifestFile().from(getProject().files(buildDirectory.file(manifestName)).getAsFileTree());
+        getOutputFile().convention(buildDirectory.file(getProject().getName() + "." + fileExtension));
+        getParallelRendering().convention(true);
+        getIncrementalRendering().convention(true);
     }
 
-    @TaskAction
-    public void renderMarkdown() {
-        var buildDir = getProject().getLayout().getBuildDirectory().getAsFile().get();
+    /**
+     * The manifest that is rendered.
+     */
+    @InputFiles
+    @SkipWhenEmpty
+    @PathSensitive(PathSensitivity.RELATIVE)
+    public abstract ConfigurableFileCollection getManifestFile();
 
-        File manifest;
-        if (getProject().getRootProject().equals(getProject())) {
-            manifest = Path.of(buildDir.getAbsolutePath(), "manifest.json").toFile();
-        } else {
-            manifest = Path.of(buildDir.getAbsolutePath(), "edc.json").toFile();
-        }
+    /**
+     * The rendered document. By default, it is {@code <project>/build/<project name>.<file extension>}.
+     */
+    @OutputFile
+    public abstract RegularFileProperty getOutputFile();
+
+    /**
+     * Whether the modules are rendered concurrently. The document is the same either way. Defaults to {@code true}.
+     */
+    @Internal
+    public abstract Property<Boolean> getParallelRendering();
 
-        if (manifest.exists()) {
-            var outputFile = new File(buildDir, getProject().getName() + "." + fileExtension);
-            try (
-                    var fos = new FileOutputStream(outputFile);
-                    var fis = new FileInputStream(manifest)
-            ) {
-                var writer = new ManifestWriter(manifestRendererSupplier.apply(fos));
-                getLogger().lifecycle(format("Rendering %s for input %s", outputFile, manifest));
-                try (var os = writer.convert(reader.read(fis))) {
-                    os.flush();
-                }
-            } catch (IOException e) {
-                throw new GradleException("Error rendering Markdown", e);
+    /**
+     * Whether the rendered modules are cached in the temporary directory of the task, so that only the modules that changed
+     * since the previous run are rendered again. The document is the same either way. Defaults to {@code true}.
+     */
+    @Internal
+    public abstract Property<Boolean> getIncrementalRendering();
+
+    @TaskAction
+    public void renderMarkdown() {
+        var manifest = getManifestFile().getSingleFile();
+        var outputFile = getOutputFile().get().getAsFile();
+        var objectMapper = new ObjectMapper();
+        var fragmentCache = getIncrementalRendering().get()
+                ? new FileFragmentCache(getTemporaryDir().toPath().resolve("fragments"), objectMapper, getLogger())
+                : null;
+        try (var fos = new FileOutputStream(outputFile)) {
+            var reader = new JsonManifestReader(objectMapper);
+            var writer = new ManifestWriter(createRenderer(fos), ManifestWriter.DEFAULT_BATCH_SIZE, getParallelRendering().get(), fragmentCache);
+            getLogger().lifecycle(format("Rendering %s for input %s", outputFile, manifest));
+            try (var os = writer.convert(reader, manifest.toPath())) {
+                os.flush();
             }
+            if (fragmentCache != null) {
+                fragmentCache.prune();
+            }
+            renderAdditionalOutputs(reader, manifest);
+        } catch (IOException e) {
+            throw new GradleException("Error rendering Markdown", e);
         }
     }
 
-    public static class ToHtml extends MarkdownRendererTask {
+    /**
+     * Creates the renderer that writes the document to the output stream.
+     */
+    protected abstract ManifestRenderer createRenderer(OutputStream outputStream);
+
+    /**
+     * Renders the outputs that accompany the document, after the document was rendered. Does nothing by default.
+     */
+    protected void renderAdditionalOutputs(ManifestReader reader, File manifest) throws IOException {
+    }
+
+    public abstract static class ToHtml extends MarkdownRendererTask {
         public static final String NAME = "doc2html";
 
         public ToHtml() {
-            super(HtmlManifestRenderer::new, "html");
+            super("html");
+            var buildDirectory = getProject().getLayout().getBuildDirectory();
+            getSearchIndexFile().convention(buildDirectory.file(getProject().getName() + "-search.js"));
+        }
+
+        /**
+         * The search index of the document, which the document loads by its path relative to the document. By default, it is
+         * {@code <project>/build/<project name>-search.js}.
+         */
+        @OutputFile
+        public abstract RegularFileProperty getSearchIndexFile();
+
+        @Override
+        protected ManifestRenderer createRenderer(OutputStream outputStream) {
+            var documentDirectory = getOutputFile().get().getAsFile().getParentFile().toPath();
+            var searchIndex = documentDirectory.relativize(getSearchIndexFile().get().getAsFile().toPath());
+            return new StreamingHtmlManifestRenderer(outputStream, searchIndex.toString().replace(File.separatorChar, '/'), getTemporaryDir().toPath());
+        }
+
+        @Override
+        protected void renderAdditionalOutputs(ManifestReader reader, File manifest) throws IOException {
+            var searchIndex = new HtmlSearchIndex(new ObjectMapper());
+            try (var inputStream = new FileInputStream(manifest); var modules = reader.stream(inputStream)) {
+                modules.forEach(searchIndex::add);
+            }
+            try (var outputStream = new FileOutputStream(getSearchIndexFile().get().getAsFile())) {
+                searchIndex.write(outputStream);
+            }
         }
     }
 
-    public static class ToMarkdown extends MarkdownRendererTask {
+    public abstract static class ToMarkdown extends MarkdownRendererTask {
         public static final String NAME = "doc2md";
 
         public ToMarkdown() {
-            super(MarkdownManifestRenderer::new, "md");
+            super("md");
+        }
+
+        @Override
+        protected ManifestRenderer createRenderer(OutputStream outputStream) {
+            return new StreamingMarkdownManifestRenderer(outputStream);
         }
     }
 }
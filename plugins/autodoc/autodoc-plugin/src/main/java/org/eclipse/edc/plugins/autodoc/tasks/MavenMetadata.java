@@ -0,0 +1,89 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.plugins.autodoc.tasks;
+
+import org.jetbrains.annotations.Nullable;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.xml.sax.SAXException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+
+/**
+ * Reads the version-level {@code maven-metadata.xml} of a SNAPSHOT version, which maps the version to the timestamped file names
+ * that snapshot repositories store artifacts under.
+ */
+final class MavenMetadata {
+    static final String FILENAME = "maven-metadata.xml";
+
+    private MavenMetadata() {
+    }
+
+    /**
+     * Returns the timestamped version of the artifact with the given classifier and extension, e.g. {@code 1.0.0-20240101.120000-3}.
+     * The matching {@code snapshotVersion} entry is used if present, otherwise the version is derived from the {@code snapshot}
+     * element. Returns null if the metadata does not describe a unique snapshot.
+     *
+     * @param content    the content of the version-level metadata file
+     * @param version    the SNAPSHOT version
+     * @param classifier the classifier of the artifact
+     * @param extension  the extension of the artifact
+     * @throws IOException if the metadata cannot be parsed
+     */
+    @Nullable
+    static String snapshotVersion(byte[] content, String version, String classifier, String extension) throws IOException {
+        var document = parse(content);
+        var snapshotVersions = document.getElementsByTagName("snapshotVersion");
+        for (var i = 0; i < snapshotVersions.getLength(); i++) {
+            var snapshotVersion = (Element) snapshotVersions.item(i);
+            if (classifier.equals(text(snapshotVersion, "classifier")) && extension.equals(text(snapshotVersion, "extension"))) {
+                return text(snapshotVersion, "value");
+            }
+        }
+
+        var snapshots = document.getElementsByTagName("snapshot");
+        if (snapshots.getLength() > 0) {
+            var snapshot = (Element) snapshots.item(0);
+            var timestamp = text(snapshot, "timestamp");
+            var buildNumber = text(snapshot, "buildNumber");
+            if (timestamp != null && buildNumber != null) {
+                return version.replace("SNAPSHOT", timestamp + "-" + buildNumber);
+            }
+        }
+        return null;
+    }
+
+    private static Document parse(byte[] content) throws IOException {
+        try {
+            var factory = DocumentBuilderFactory.newInstance();
+            factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+            factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+            factory.setExpandEntityReferences(false);
+            return factory.newDocumentBuilder().parse(new ByteArrayInputStream(content));
+        } catch (ParserConfigurationException | SAXException e) {
+            throw new IOException("Invalid " + FILENAME, e);
+        }
+    }
+
+    @Nullable
+    private static String text(Element parent, String tagName) {
+        var elements = parent.getElementsByTagName(tagName);
+        return elements.getLength() > 0 ? elements.item(0).getTextContent().trim() : null;
+    }
+}
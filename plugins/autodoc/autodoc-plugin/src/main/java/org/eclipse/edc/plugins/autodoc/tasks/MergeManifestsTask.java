@@ -17,42 +17,103 @@ package org.eclipse.edc.plugins.autodoc.tasks;
 import org.eclipse.edc.plugins.autodoc.AutodocExtension;
 import org.gradle.api.DefaultTask;
 import org.gradle.api.GradleException;
+import org.gradle.api.Project;
+import org.gradle.api.file.ConfigurableFileCollection;
+import org.gradle.api.file.FileCollection;
+import org.gradle.api.tasks.CacheableTask;
+import org.gradle.api.tasks.InputFiles;
 import org.gradle.api.tasks.OutputFile;
+import org.gradle.api.tasks.PathSensitive;
+import org.gradle.api.tasks.PathSensitivity;
 import org.gradle.api.tasks.TaskAction;
 import org.gradle.api.tasks.options.Option;
-import org.gradle.util.internal.GFileUtils;
 
 import java.io.File;
-import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Callable;
 
 import static org.eclipse.edc.plugins.autodoc.tasks.Constants.DEFAULT_AUTODOC_FOLDER;
 
 /**
- * Task that takes an input file (JSON) and appends its contents to a destination file. This task is intended to be called per-project.
+ * Task that merges the manifests of a project into one file. Every project writes its own merged manifest, by default
+ * {@code <project>/build/autodoc-merge/manifest.json}, and the task of the root project concatenates them with its own
+ * manifests into {@code <rootProject>/build/manifest.json}, in a single pass.
+ * <p>
+ * Every task has its own output, and all manifests that are read are declared as inputs, so a task is up-to-date as long as
+ * the manifests of its project did not change, and it can be loaded from the build cache.
  */
+@CacheableTask
 public abstract class MergeManifestsTask extends DefaultTask {
 
     public static final String NAME = "mergeManifests";
     private static final String MERGED_MANIFEST_FILENAME = "manifest.json";
-    private final JsonFileAppender appender;
-    private final File projectBuildDirectory;
+    private static final String PROJECT_MERGE_FOLDER = "autodoc-merge";
+    private final boolean isRootProject;
     private File destinationFile;
     private File inputDirectory;
     private String outputDirectoryOption;
 
     public MergeManifestsTask() {
-        appender = new JsonFileAppender(getProject().getLogger());
-        projectBuildDirectory = getProject().getLayout().getBuildDirectory().getAsFile().get();
-        destinationFile = getProject().getRootProject().getLayout().getBuildDirectory().get().getAsFile().toPath().resolve(MERGED_MANIFEST_FILENAME).toFile();
-        inputDirectory = projectBuildDirectory.toPath().resolve(DEFAULT_AUTODOC_FOLDER).toFile();
+        var projectBuildDirectory = getProject().getLayout().getBuildDirectory();
+        isRootProject = getProject().equals(getProject().getRootProject());
+        destinationFile = isRootProject
+                ? projectBuildDirectory.file(MERGED_MANIFEST_FILENAME).get().getAsFile()
+                : projectBuildDirectory.dir(PROJECT_MERGE_FOLDER).get().file(MERGED_MANIFEST_FILENAME).getAsFile();
+        inputDirectory = projectBuildDirectory.dir(DEFAULT_AUTODOC_FOLDER).get().getAsFile();
+
+        var autodocExt = getProject().getExtensions().findByType(AutodocExtension.class);
+        Objects.requireNonNull(autodocExt, "AutodocExtension cannot be null");
+
+        getProjectManifest().from(autodocExt.getOutputDirectory().orElse(projectBuildDirectory.getAsFile()).map(dir -> new File(dir, "edc.json")));
+        getTransitiveManifests().from((Callable<Object>) () -> autodocExt.isIncludeTransitive() ? jsonFiles(inputDirectory) : List.of());
+        getAdditionalManifests().from((Callable<Object>) () -> isRootProject && autodocExt.isIncludeTransitive() && autodocExt.getAdditionalInputDirectory().isPresent() ?
+                jsonFiles(autodocExt.getAdditionalInputDirectory().get()) : List.of());
+        // the merge tasks of the subprojects are resolved when the task graph is built, after all projects were configured
+        var project = getProject();
+        getSubprojectManifests().from((Callable<Object>) () -> isRootProject ? subprojectMergeTasks(project) : List.of());
     }
 
     /**
-     * The destination file. By default, it is set to {@code <rootProject>/build/manifest.json}
+     * The manifest of the project itself, i.e. the {@code edc.json} in the output directory of the annotation processor.
+     */
+    @InputFiles
+    @PathSensitive(PathSensitivity.RELATIVE)
+    public abstract ConfigurableFileCollection getProjectManifest();
+
+    /**
+     * The previously downloaded or resolved manifests, if transitive dependencies are included.
+     */
+    @InputFiles
+    @PathSensitive(PathSensitivity.RELATIVE)
+    public abstract ConfigurableFileCollection getTransitiveManifests();
+
+    /**
+     * The manifests in {@link AutodocExtension#getAdditionalInputDirectory()}, which are only merged by the root project.
+     */
+    @InputFiles
+    @PathSensitive(PathSensitivity.RELATIVE)
+    public abstract ConfigurableFileCollection getAdditionalManifests();
+
+    /**
+     * The merged manifests of all subprojects, in the order of their project paths, which are only merged by the root project.
+     * The collection carries the merge tasks of the subprojects, so the root task runs after them.
+     */
+    @InputFiles
+    @PathSensitive(PathSensitivity.RELATIVE)
+    public abstract ConfigurableFileCollection getSubprojectManifests();
+
+    /**
+     * The destination file. By default, it is {@code <rootProject>/build/manifest.json} for the root project, and
+     * {@code <project>/build/autodoc-merge/manifest.json} for all other projects.
      */
     @OutputFile
     public File getDestinationFile() {
+        if (outputDirectoryOption != null && isRootProject) {
+            return new File(outputDirectoryOption, MERGED_MANIFEST_FILENAME);
+        }
         return destinationFile;
     }
 
@@ -62,52 +123,42 @@ public abstract class MergeManifestsTask extends DefaultTask {
 
     @TaskAction
     public void mergeManifests() {
-        File destination;
-        if (outputDirectoryOption != null) {
-            var customOutputDir = new File(outputDirectoryOption);
-            customOutputDir.mkdirs();
-            destination = new File(customOutputDir, MERGED_MANIFEST_FILENAME);
-        } else {
-            destination = destinationFile;
-        }
-
-        var autodocExt = getProject().getExtensions().findByType(AutodocExtension.class);
-
-        Objects.requireNonNull(autodocExt, "AutodocExtension cannot be null");
-
+        var destination = getDestinationFile();
         if (destination == null) {
             throw new GradleException("destinationFile must be configured but was null!");
         }
-
-        var sourceFile = Path.of(autodocExt.getOutputDirectory().convention(projectBuildDirectory).get().getAbsolutePath(), "edc.json").toFile();
-
-        if (sourceFile.exists()) {
-            appender.append(destination, sourceFile);
-        } else {
-            getProject().getLogger().lifecycle("Skip project [{}] - no manifest file found", sourceFile);
-        }
-
+        destination.getParentFile().mkdirs();
+
+        var sources = new ArrayList<File>();
+        getProjectManifest().forEach(sourceFile -> {
+            if (sourceFile.exists()) {
+                sources.add(sourceFile);
+            } else {
+                getLogger().lifecycle("Skip project [{}] - no manifest file found", sourceFile);
+            }
+        });
+
+        getSubprojectManifests().forEach(sourceFile -> {
+            if (sourceFile.exists()) {
+                sources.add(sourceFile);
+            }
+        });
 
         // if an additional input directory was specified via CLI, lets include the files in it.
-        if (inputDirectory != null &&
-                inputDirectory.exists() &&
-                autodocExt.isIncludeTransitive()) {
-            var files = GFileUtils.listFiles(inputDirectory, new String[]{ "json" }, false);
-            getLogger().lifecycle("Appending [{}] additional JSON files from the inputDirectory to the merged manifest", files.size());
-            files.forEach(f -> appender.append(destination, f));
+        var transitiveManifests = sorted(getTransitiveManifests());
+        if (!transitiveManifests.isEmpty()) {
+            getLogger().lifecycle("Merging [{}] additional JSON files from the inputDirectory into the merged manifest", transitiveManifests.size());
+            sources.addAll(transitiveManifests);
         }
 
         // if an additional input directory was specified, lets include the files in it.
-        if (autodocExt.getAdditionalInputDirectory().isPresent() &&
-                autodocExt.getAdditionalInputDirectory().get().exists() &&
-                getProject().equals(getProject().getRootProject()) &&
-                autodocExt.isIncludeTransitive()) {
-            var dir = autodocExt.getAdditionalInputDirectory().get();
-            var files = GFileUtils.listFiles(dir, new String[]{ "json" }, false);
-            getLogger().lifecycle("Appending [{}] additional JSON files to the merged manifest", files.size());
-            files.forEach(f -> appender.append(destination, f));
+        var additionalManifests = sorted(getAdditionalManifests());
+        if (!additionalManifests.isEmpty()) {
+            getLogger().lifecycle("Merging [{}] additional JSON files into the merged manifest", additionalManifests.size());
+            sources.addAll(additionalManifests);
         }
 
+        new ManifestMerger(getLogger()).merge(destination, sources);
     }
 
     @Option(option = "input", description = "Directory where previously downloaded or resolved manifest files reside")
@@ -115,8 +166,32 @@ public abstract class MergeManifestsTask extends DefaultTask {
         this.inputDirectory = new File(inputDirectory);
     }
 
-    @Option(option = "output", description = "Directory where the merged manifest should be stored")
+    @Option(option = "output", description = "Directory where the merged manifest of the root project should be stored")
     public void setOutputDirectory(String outputDirectory) {
         this.outputDirectoryOption = outputDirectory;
     }
+
+    /**
+     * Returns the JSON files directly inside the directory, which are empty if it does not exist.
+     */
+    private FileCollection jsonFiles(File directory) {
+        return getProject().fileTree(directory, tree -> tree.include("*.json"));
+    }
+
+    /**
+     * The merge tasks of all subprojects that apply the plugin, in the order of their project paths.
+     */
+    private static List<Object> subprojectMergeTasks(Project project) {
+        return project.getSubprojects().stream()
+                .sorted(Comparator.comparing(Project::getPath))
+                .<Object>map(subproject -> subproject.getTasks().withType(MergeManifestsTask.class))
+                .toList();
+    }
+
+    /**
+     * Sorts the files by name, so that the merged manifest does not depend on the order in which the file system lists them.
+     */
+    private List<File> sorted(FileCollection files) {
+        return files.getFiles().stream().sorted(Comparator.comparing(File::getName)).toList();
+    }
 }
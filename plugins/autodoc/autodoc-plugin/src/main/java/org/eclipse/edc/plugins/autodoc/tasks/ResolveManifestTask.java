@@ -16,18 +16,50 @@ package org.eclipse.edc.plugins.autodoc.tasks;
 
 import org.gradle.api.artifacts.Dependency;
 import org.gradle.api.artifacts.ProjectDependency;
-import org.gradle.api.internal.artifacts.dependencies.DefaultProjectDependency;
+import org.gradle.api.file.ConfigurableFileCollection;
+import org.gradle.api.tasks.InputFiles;
+import org.gradle.api.tasks.PathSensitive;
+import org.gradle.api.tasks.PathSensitivity;
+import org.gradle.work.DisableCachingByDefault;
 
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.InputStream;
+import java.util.Objects;
 import java.util.Optional;
 
-public class ResolveManifestTask extends AbstractManifestResolveTask {
+/**
+ * Copies the manifests of all projects that the project depends on. The manifests are declared as inputs, so the task is
+ * up-to-date as long as none of them changed.
+ */
+@DisableCachingByDefault(because = "Copies local files, which is cheaper than caching them")
+public abstract class ResolveManifestTask extends AbstractManifestResolveTask {
 
     public static final String NAME = "resolveManifests";
     public static final String DESCRIPTION = "This task is intended for BOM modules and resolves the autodoc manifests of all modules that the project depends on. By default, all manifests are stored in {project}/build/autodoc.";
+    private static final String COMPILE_JAVA = "compileJava";
+
+    public ResolveManifestTask() {
+        getProjectManifests().from(getManifestDependencies().map(dependencies -> dependencies.stream()
+                .map(ManifestDependency::localManifest)
+                .filter(Objects::nonNull)
+                .toList()));
+        // the manifests are written by the compile tasks of the projects, as a declared output
+        dependsOn(getManifestDependencies().map(dependencies -> dependencies.stream()
+                .map(ManifestDependency::projectPath)
+                .filter(Objects::nonNull)
+                .map(path -> getProject().project(path).getTasks().findByName(COMPILE_JAVA))
+                .filter(Objects::nonNull)
+                .toList()));
+    }
+
+    /**
+     * The {@code edc.json} manifests of all projects that the project depends on.
+     */
+    @InputFiles
+    @PathSensitive(PathSensitivity.RELATIVE)
+    public abstract ConfigurableFileCollection getProjectManifests();
 
     @Override
     protected boolean includeDependency(Dependency dependency) {
@@ -51,17 +83,11 @@ public class ResolveManifestTask extends AbstractManifestResolveTask {
     }
 
     @Override
-    protected Optional<DependencySource> createSource(Dependency dependency) {
-        if (dependency instanceof DefaultProjectDependency localDependency) {
-            var manifestFile = localDependency.getDependencyProject().getLayout().getBuildDirectory().file("edc.json");
-            if (manifestFile.isPresent()) {
-                return Optional.of(DependencySourceFactory.createDependencySource(manifestFile.get().getAsFile().toURI(), dependency, MANIFEST_CLASSIFIER, MANIFEST_TYPE));
-            } else {
-                getLogger().debug("No manifest file found for dependency {}", dependency);
-            }
-
+    protected Optional<DependencySource> createSource(ManifestDependency dependency) {
+        if (dependency.localManifest() != null) {
+            return Optional.of(DependencySourceFactory.createDependencySource(dependency.localManifest().toURI(), dependency, MANIFEST_CLASSIFIER, MANIFEST_TYPE));
         } else {
-            getLogger().debug("Dependency {} is not a DefaultProjectDependency", dependency);
+            getLogger().debug("Dependency {} is not a project dependency", dependency);
         }
 
         return Optional.empty();
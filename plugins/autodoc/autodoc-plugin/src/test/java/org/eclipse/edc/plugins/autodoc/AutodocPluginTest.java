@@ -14,8 +14,10 @@
 
 package org.eclipse.edc.plugins.autodoc;
 
+import org.eclipse.edc.plugins.autodoc.tasks.AutodocBomTask;
 import org.eclipse.edc.plugins.autodoc.tasks.MergeManifestsTask;
 import org.gradle.api.Project;
+import org.gradle.api.tasks.compile.JavaCompile;
 import org.gradle.testfixtures.ProjectBuilder;
 import org.junit.jupiter.api.Test;
 
@@ -35,4 +37,35 @@ public class AutodocPluginTest {
         assertThat(tasks.findByName(AUTODOC_TASK_NAME)).isNotNull();
         assertThat(tasks.findByName(MergeManifestsTask.NAME)).isNotNull();
     }
+
+    @Test
+    public void pluginPassesProcessorArgumentsToCompileJava() {
+        Project project = ProjectBuilder.builder().withName("module").build();
+        project.setGroup("org.example");
+        project.setVersion("1.2.3");
+        project.getPlugins().apply("java");
+        project.getPlugins().apply(AutodocPlugin.class);
+
+        var compileJava = (JavaCompile) project.getTasks().getByName("compileJava");
+
+        assertThat(compileJava.getOptions().getCompilerArgs()).isEmpty();
+        assertThat(compileJava.getOptions().getAllCompilerArgs())
+                .contains("-Aedc.id=org.example:module", "-Aedc.version=1.2.3")
+                .anyMatch(arg -> arg.startsWith("-Aedc.outputDir="));
+        assertThat(compileJava.getOutputs().getFiles()).contains(project.getLayout().getBuildDirectory().file("edc.json").get().getAsFile());
+    }
+
+    @Test
+    public void pluginDoesNotOverlapBomManifest_whenBomTaskIsConfigured() {
+        Project project = ProjectBuilder.builder().withName("module").build();
+        project.getPlugins().apply("java");
+        project.getPlugins().apply(AutodocPlugin.class);
+
+        var compileJava = (JavaCompile) project.getTasks().getByName("compileJava");
+        var bom = (AutodocBomTask) project.getTasks().getByName(AutodocBomTask.NAME);
+
+        assertThat(compileJava.getOutputs().getFiles())
+                .doesNotContain(bom.getOutputFile())
+                .contains(project.getLayout().getBuildDirectory().file("autodoc-processor/edc.json").get().getAsFile());
+    }
 }
@@ -0,0 +1,167 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.plugins.autodoc;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.plugins.autodoc.tasks.AutodocBomTask;
+import org.eclipse.edc.plugins.autodoc.tasks.DownloadManifestTask;
+import org.eclipse.edc.plugins.autodoc.tasks.MarkdownRendererTask;
+import org.eclipse.edc.plugins.autodoc.tasks.MergeManifestsTask;
+import org.gradle.testkit.runner.BuildResult;
+import org.gradle.testkit.runner.GradleRunner;
+import org.gradle.testkit.runner.TaskOutcome;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AutodocTaskCachingTest {
+
+    private static final String MANIFEST = """
+            [{"categories":[],"extensions":[],"extensionPoints":[],"modulePath":"org.example:module","version":"1.0.0","name":null}]
+            """;
+    @TempDir
+    private Path projectDir;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Files.writeString(projectDir.resolve("settings.gradle"), """
+                rootProject.name = "test-project"
+                buildCache {
+                    local {
+                        directory = file("build-cache")
+                    }
+                }
+                """);
+        Files.writeString(projectDir.resolve("build.gradle"), """
+                plugins {
+                    id("java")
+                    id("org.eclipse.edc.autodoc")
+                }
+                """);
+        Files.createDirectories(projectDir.resolve("build/autodoc"));
+    }
+
+    @Test
+    void renderer_shouldBeUpToDate_andLoadedFromCache() throws IOException {
+        Files.writeString(projectDir.resolve("build/manifest.json"), MANIFEST);
+        var task = ":" + MarkdownRendererTask.ToMarkdown.NAME;
+
+        assertThat(run(task).task(task).getOutcome()).isEqualTo(TaskOutcome.SUCCESS);
+        assertThat(run(task).task(task).getOutcome()).isEqualTo(TaskOutcome.UP_TO_DATE);
+
+        Files.delete(projectDir.resolve("build/test-project.md"));
+
+        assertThat(run(task).task(task).getOutcome()).isEqualTo(TaskOutcome.FROM_CACHE);
+        assertThat(projectDir.resolve("build/test-project.md")).exists();
+    }
+
+    @Test
+    void renderer_shouldBeSkipped_whenManifestDoesNotExist() {
+        var task = ":" + MarkdownRendererTask.ToMarkdown.NAME;
+
+        assertThat(run(task).task(task).getOutcome()).isEqualTo(TaskOutcome.NO_SOURCE);
+    }
+
+    @Test
+    void bom_shouldBeUpToDate_andLoadedFromCache() throws IOException {
+        Files.writeString(projectDir.resolve("build/autodoc/module-a-manifest.json"), MANIFEST);
+        Files.writeString(projectDir.resolve("build/autodoc/module-b-manifest.json"), MANIFEST);
+        var task = ":" + AutodocBomTask.NAME;
+
+        assertThat(run(task, "-x", "resolveManifests").task(task).getOutcome()).isEqualTo(TaskOutcome.SUCCESS);
+        assertThat(run(task, "-x", "resolveManifests").task(task).getOutcome()).isEqualTo(TaskOutcome.UP_TO_DATE);
+
+        Files.delete(projectDir.resolve("build/edc.json"));
+
+        assertThat(run(task, "-x", "resolveManifests").task(task).getOutcome()).isEqualTo(TaskOutcome.FROM_CACHE);
+
+        Files.writeString(projectDir.resolve("build/autodoc/module-c-manifest.json"), MANIFEST);
+
+        assertThat(run(task, "-x", "resolveManifests").task(task).getOutcome()).isEqualTo(TaskOutcome.SUCCESS);
+    }
+
+    @Test
+    void merge_shouldBeUpToDate_whenManifestsDidNotChange() throws IOException {
+        Files.writeString(projectDir.resolve("build/edc.json"), MANIFEST);
+        var task = ":" + MergeManifestsTask.NAME;
+
+        assertThat(run(task, "-x", "autodoc").task(task).getOutcome()).isEqualTo(TaskOutcome.SUCCESS);
+        assertThat(run(task, "-x", "autodoc").task(task).getOutcome()).isEqualTo(TaskOutcome.UP_TO_DATE);
+
+        Files.writeString(projectDir.resolve("build/autodoc/module-a-manifest.json"), MANIFEST);
+
+        assertThat(run(task, "-x", "autodoc").task(task).getOutcome()).isEqualTo(TaskOutcome.SUCCESS);
+    }
+
+    @Test
+    void merge_shouldReplaceModule_whenProjectChanged() throws IOException {
+        Files.writeString(projectDir.resolve("settings.gradle"), "include(\"a\", \"b\")\n", StandardOpenOption.APPEND);
+        for (var project : List.of("a", "b")) {
+            Files.createDirectories(projectDir.resolve(project + "/build"));
+            Files.writeString(projectDir.resolve(project + "/build.gradle"), """
+                    plugins {
+                        id("java")
+                        id("org.eclipse.edc.autodoc")
+                    }
+                    """);
+            Files.writeString(projectDir.resolve(project + "/build/edc.json"), MANIFEST.replace("org.example:module", "org.example:" + project));
+        }
+        var task = MergeManifestsTask.NAME;
+        run(task, "-x", "autodoc");
+
+        Files.writeString(projectDir.resolve("a/build/edc.json"), MANIFEST.replace("org.example:module", "org.example:a").replace("1.0.0", "2.0.0"));
+        var result = run(task, "-x", "autodoc");
+
+        assertThat(result.task(":a:" + task).getOutcome()).isEqualTo(TaskOutcome.SUCCESS);
+        assertThat(result.task(":b:" + task).getOutcome()).isEqualTo(TaskOutcome.UP_TO_DATE);
+        assertThat(result.task(":" + task).getOutcome()).isEqualTo(TaskOutcome.SUCCESS);
+        var modules = new ObjectMapper().readTree(projectDir.resolve("build/manifest.json").toFile());
+        assertThat(modules.findValuesAsText("modulePath")).containsExactly("org.example:a", "org.example:b");
+        assertThat(modules.findValuesAsText("version")).containsExactly("2.0.0", "1.0.0");
+    }
+
+    @Test
+    void tasks_shouldBeCompatibleWithConfigurationCache() throws IOException {
+        Files.writeString(projectDir.resolve("build/edc.json"), MANIFEST);
+        var tasks = new String[]{ ":" + DownloadManifestTask.NAME, ":" + MergeManifestsTask.NAME, ":" + MarkdownRendererTask.ToHtml.NAME };
+
+        var first = run(tasks[0], tasks[1], tasks[2], "-x", "autodoc", "--configuration-cache");
+        var second = run(tasks[0], tasks[1], tasks[2], "-x", "autodoc", "--configuration-cache");
+
+        assertThat(first.getOutput()).contains("Configuration cache entry stored.");
+        assertThat(second.getOutput()).contains("Reusing configuration cache.");
+        assertThat(second.task(tasks[1]).getOutcome()).isEqualTo(TaskOutcome.UP_TO_DATE);
+        assertThat(projectDir.resolve("build/manifest.json")).exists();
+    }
+
+    private BuildResult run(String... arguments) {
+        var args = new String[arguments.length + 1];
+        System.arraycopy(arguments, 0, args, 0, arguments.length);
+        args[arguments.length] = "--build-cache";
+        return GradleRunner.create()
+                .withProjectDir(projectDir.toFile())
+                .withPluginClasspath()
+                .withArguments(args)
+                .build();
+    }
+}
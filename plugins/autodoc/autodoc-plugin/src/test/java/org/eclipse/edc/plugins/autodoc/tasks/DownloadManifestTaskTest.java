@@ -0,0 +1,330 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.plugins.autodoc.tasks;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.eclipse.edc.plugins.autodoc.AutodocExtension;
+import org.eclipse.edc.plugins.autodoc.AutodocPlugin;
+import org.eclipse.edc.plugins.autodoc.ManifestResolutionMode;
+import org.gradle.api.Project;
+import org.gradle.testfixtures.ProjectBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DownloadManifestTaskTest {
+
+    private static final int DEPENDENCIES = 12;
+    private static final String ETAG = "\"v1\"";
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicInteger notModified = new AtomicInteger();
+    private final AtomicInteger notFound = new AtomicInteger();
+    private final AtomicInteger metadataRequests = new AtomicInteger();
+    /**
+     * Holds back the first requests until the given number of them is in flight, so the concurrency does not depend on timing.
+     */
+    private volatile CountDownLatch concurrentRequests = new CountDownLatch(0);
+    private HttpServer server;
+    @TempDir
+    private Path projectDir;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/", this::handle);
+        server.createContext("/empty/", exchange -> {
+            if (!isMetadataRequest(exchange)) {
+                notFound.incrementAndGet();
+            }
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+        });
+        server.createContext("/snapshots/", this::handleSnapshot);
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void shouldDownloadConcurrently_withBoundedRequestsPerRepository() {
+        concurrentRequests = new CountDownLatch(3);
+        var project = createProject(3);
+        var task = (DownloadManifestTask) project.getTasks().getByName(DownloadManifestTask.NAME);
+
+        task.resolveAutodocManifest();
+
+        assertThat(task.getOutputDirectory().get().getAsFile().list((dir, name) -> name.endsWith(".json"))).hasSize(DEPENDENCIES)
+                .allSatisfy(name -> assertThat(name).matches("module-\\d+-1\\.0\\.0-manifest\\.json"));
+        assertThat(maxInFlight.get()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldDownloadSerially_whenLimitedToOneRequest() {
+        var project = createProject(1);
+        var task = (DownloadManifestTask) project.getTasks().getByName(DownloadManifestTask.NAME);
+
+        task.resolveAutodocManifest();
+
+        assertThat(task.getOutputDirectory().get().getAsFile().list((dir, name) -> name.endsWith(".json"))).hasSize(DEPENDENCIES);
+        assertThat(maxInFlight.get()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotDownloadReleasesAgain() {
+        var project = createProject(4);
+        var task = (DownloadManifestTask) project.getTasks().getByName(DownloadManifestTask.NAME);
+        task.resolveAutodocManifest();
+        assertThat(requests.get()).isEqualTo(DEPENDENCIES);
+
+        task.resolveAutodocManifest();
+
+        assertThat(requests.get()).isEqualTo(DEPENDENCIES);
+    }
+
+    @Test
+    void shouldRevalidateSnapshotsWithConditionalGet() throws IOException {
+        var project = createProject(4, "1.0.0-SNAPSHOT");
+        var task = (DownloadManifestTask) project.getTasks().getByName(DownloadManifestTask.NAME);
+        task.resolveAutodocManifest();
+        var manifest = task.getOutputDirectory().get().getAsFile().toPath().resolve("module-0-1.0.0-SNAPSHOT-manifest.json");
+        var lastModified = FileTime.fromMillis(1000);
+        Files.setLastModifiedTime(manifest, lastModified);
+
+        task.resolveAutodocManifest();
+
+        assertThat(requests.get()).isEqualTo(2 * DEPENDENCIES);
+        assertThat(notModified.get()).isEqualTo(DEPENDENCIES);
+        assertThat(Files.getLastModifiedTime(manifest)).isEqualTo(lastModified);
+        assertThat(task.getOutputDirectory().get().getAsFile().toPath().resolve(ManifestMetadataIndex.INDEX_FILENAME)).content()
+                .contains("module-0-1.0.0-SNAPSHOT-manifest.json", "\\\"v1\\\"");
+    }
+
+    @Test
+    void shouldNotAskRepositoryAgain_whenManifestWasNotFound() {
+        var project = createProject(4, "1.0.0-SNAPSHOT", "empty/");
+        var task = (DownloadManifestTask) project.getTasks().getByName(DownloadManifestTask.NAME);
+        task.resolveAutodocManifest();
+        assertThat(notFound.get()).isEqualTo(DEPENDENCIES);
+
+        task.resolveAutodocManifest();
+
+        assertThat(notFound.get()).isEqualTo(DEPENDENCIES);
+        assertThat(notModified.get()).isEqualTo(DEPENDENCIES);
+    }
+
+    @Test
+    void shouldAskRepositoryOfPreviousDownloadFirst() {
+        var project = createProject(4, "1.0.0-SNAPSHOT", "empty/");
+        project.getExtensions().getByType(AutodocExtension.class).getNegativeCacheTtl().set(Duration.ZERO);
+        var task = (DownloadManifestTask) project.getTasks().getByName(DownloadManifestTask.NAME);
+        task.resolveAutodocManifest();
+        assertThat(notFound.get()).isEqualTo(DEPENDENCIES);
+
+        task.resolveAutodocManifest();
+
+        assertThat(notFound.get()).isEqualTo(DEPENDENCIES);
+        assertThat(requests.get()).isEqualTo(2 * DEPENDENCIES);
+    }
+
+    @Test
+    void shouldResolveTimestampedSnapshots() {
+        var project = ProjectBuilder.builder().withProjectDir(projectDir.toFile()).build();
+        project.getPlugins().apply("java");
+        project.getPlugins().apply(AutodocPlugin.class);
+        project.getExtensions().getByType(AutodocExtension.class).setIncludeTransitive(false);
+        project.getRepositories().maven(repo -> repo.setUrl("http://localhost:" + server.getAddress().getPort() + "/snapshots/"));
+        IntStream.range(0, DEPENDENCIES).forEach(i -> project.getDependencies().add("implementation", "org.example:module-" + i + ":1.0.0-SNAPSHOT"));
+        var task = (DownloadManifestTask) project.getTasks().getByName(DownloadManifestTask.NAME);
+        task.resolveAutodocManifest();
+        assertThat(task.getOutputDirectory().get().getAsFile().list((dir, name) -> name.endsWith(".json"))).hasSize(DEPENDENCIES)
+                .allSatisfy(name -> assertThat(name).matches("module-\\d+-1\\.0\\.0-SNAPSHOT-manifest\\.json"));
+        assertThat(metadataRequests.get()).isEqualTo(DEPENDENCIES);
+        assertThat(requests.get()).isEqualTo(DEPENDENCIES);
+
+        task.resolveAutodocManifest();
+
+        assertThat(metadataRequests.get()).isEqualTo(DEPENDENCIES);
+        assertThat(requests.get()).isEqualTo(DEPENDENCIES);
+    }
+
+    @Test
+    void shouldResolveManifestsThroughGradle() throws IOException {
+        var repository = projectDir.resolve("repository");
+        publish(repository, "module-0", "[{\"name\":\"module-0\"}]");
+        publish(repository, "module-1", null);
+        var project = ProjectBuilder.builder().withProjectDir(projectDir.resolve("project").toFile()).build();
+        project.getPlugins().apply("java");
+        project.getPlugins().apply(AutodocPlugin.class);
+        project.getExtensions().getByType(AutodocExtension.class).getManifestResolution().set(ManifestResolutionMode.GRADLE);
+        project.getRepositories().maven(repo -> repo.setUrl(repository.toUri()));
+        project.getDependencies().add("implementation", "org.example:module-0:1.0.0");
+        project.getDependencies().add("implementation", "org.example:module-1:1.0.0");
+        var task = (DownloadManifestTask) project.getTasks().getByName(DownloadManifestTask.NAME);
+
+        task.resolveAutodocManifest();
+
+        assertThat(task.getOutputDirectory().get().getAsFile().list()).containsExactly("module-0-1.0.0-manifest.json");
+        assertThat(task.getOutputDirectory().get().getAsFile().toPath().resolve("module-0-1.0.0-manifest.json")).hasContent("[{\"name\":\"module-0\"}]");
+        assertThat(requests.get()).isZero();
+    }
+
+    @Test
+    void shouldDownloadManifestsOfTransitiveDependencies() throws IOException {
+        var repository = projectDir.resolve("repository");
+        publish(repository, "module-0", "[{\"name\":\"module-0\"}]", "module-1");
+        publish(repository, "module-1", "[{\"name\":\"module-1\"}]", "module-2");
+        publish(repository, "module-2", null);
+        var project = ProjectBuilder.builder().withProjectDir(projectDir.resolve("project").toFile()).build();
+        project.getPlugins().apply("java");
+        project.getPlugins().apply(AutodocPlugin.class);
+        project.getRepositories().maven(repo -> repo.setUrl(repository.toUri()));
+        project.getDependencies().add("implementation", "org.example:module-0:1.0.0");
+        var task = (DownloadManifestTask) project.getTasks().getByName(DownloadManifestTask.NAME);
+
+        task.resolveAutodocManifest();
+
+        assertThat(task.getOutputDirectory().get().getAsFile().list((dir, name) -> name.endsWith(".json")))
+                .containsExactlyInAnyOrder("module-0-1.0.0-manifest.json", "module-1-1.0.0-manifest.json");
+    }
+
+    private void publish(Path repository, String module, String manifest, String... dependencies) throws IOException {
+        var directory = Files.createDirectories(repository.resolve("org/example/" + module + "/1.0.0"));
+        var dependencyElements = Arrays.stream(dependencies)
+                .map("<dependency><groupId>org.example</groupId><artifactId>%s</artifactId><version>1.0.0</version></dependency>"::formatted)
+                .collect(Collectors.joining());
+        Files.writeString(directory.resolve(module + "-1.0.0.pom"), """
+                <project>
+                  <modelVersion>4.0.0</modelVersion>
+                  <groupId>org.example</groupId>
+                  <artifactId>%s</artifactId>
+                  <version>1.0.0</version>
+                  <dependencies>%s</dependencies>
+                </project>
+                """.formatted(module, dependencyElements));
+        if (manifest != null) {
+            Files.writeString(directory.resolve(module + "-1.0.0-manifest.json"), manifest);
+        }
+    }
+
+    private Project createProject(int maxConcurrentDownloads) {
+        return createProject(maxConcurrentDownloads, "1.0.0");
+    }
+
+    private Project createProject(int maxConcurrentDownloads, String version, String... additionalRepositoryPaths) {
+        var project = ProjectBuilder.builder().withProjectDir(projectDir.toFile()).build();
+        project.getPlugins().apply("java");
+        project.getPlugins().apply(AutodocPlugin.class);
+        var extension = project.getExtensions().getByType(AutodocExtension.class);
+        extension.getMaxConcurrentDownloads().set(maxConcurrentDownloads);
+        extension.setIncludeTransitive(false);
+        for (var path : additionalRepositoryPaths) {
+            project.getRepositories().maven(repo -> repo.setUrl("http://localhost:" + server.getAddress().getPort() + "/" + path));
+        }
+        project.getRepositories().maven(repo -> repo.setUrl("http://localhost:" + server.getAddress().getPort() + "/"));
+        IntStream.range(0, DEPENDENCIES).forEach(i -> project.getDependencies().add("implementation", "org.example:module-" + i + ":" + version));
+        return project;
+    }
+
+    private void handleSnapshot(HttpExchange exchange) throws IOException {
+        var path = exchange.getRequestURI().getPath();
+        if (isMetadataRequest(exchange)) {
+            var body = """
+                    <metadata>
+                      <versioning>
+                        <snapshot><timestamp>20260101.120000</timestamp><buildNumber>2</buildNumber></snapshot>
+                        <snapshotVersions>
+                          <snapshotVersion><extension>pom</extension><value>1.0.0-20260101.120000-2</value></snapshotVersion>
+                          <snapshotVersion><classifier>manifest</classifier><extension>json</extension><value>1.0.0-20260101.120000-1</value></snapshotVersion>
+                        </snapshotVersions>
+                      </versioning>
+                    </metadata>
+                    """.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+        } else if (path.endsWith("-1.0.0-20260101.120000-1-manifest.json")) {
+            requests.incrementAndGet();
+            var body = "[]".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+        } else {
+            exchange.sendResponseHeaders(404, -1);
+        }
+        exchange.close();
+    }
+
+    private boolean isMetadataRequest(HttpExchange exchange) {
+        var metadata = exchange.getRequestURI().getPath().endsWith("/maven-metadata.xml");
+        if (metadata) {
+            metadataRequests.incrementAndGet();
+        }
+        return metadata;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        if (isMetadataRequest(exchange)) {
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+            return;
+        }
+        requests.incrementAndGet();
+        var current = inFlight.incrementAndGet();
+        maxInFlight.accumulateAndGet(current, Math::max);
+        try {
+            var latch = concurrentRequests;
+            latch.countDown();
+            latch.await(10, TimeUnit.SECONDS);
+            Thread.sleep(50);
+            exchange.getResponseHeaders().add("ETag", ETAG);
+            if (ETAG.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                notModified.incrementAndGet();
+                exchange.sendResponseHeaders(304, -1);
+            } else {
+                var body = "[]".getBytes(StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(200, body.length);
+                exchange.getResponseBody().write(body);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.decrementAndGet();
+            exchange.close();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.plugins.autodoc.tasks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.runtime.metamodel.domain.EdcModule;
+import org.gradle.api.logging.Logging;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileFragmentCacheTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void get_shouldReturnStoredFragment_forModuleWithSameContent() {
+        createCache().put(module("org.example:a", "1.0.0"), new byte[]{ 1, 2, 3 });
+
+        var cache = createCache();
+
+        assertThat(cache.get(module("org.example:a", "1.0.0"))).containsExactly(1, 2, 3);
+        assertThat(cache.get(module("org.example:a", "1.0.1"))).isNull();
+    }
+
+    @Test
+    void prune_shouldDeleteUnusedFragments() throws IOException {
+        var previous = createCache();
+        previous.put(module("org.example:a", "1.0.0"), new byte[]{ 1 });
+        previous.put(module("org.example:b", "1.0.0"), new byte[]{ 2 });
+
+        var cache = createCache();
+        cache.get(module("org.example:a", "1.0.0"));
+        cache.prune();
+
+        try (var files = Files.list(tempDir)) {
+            assertThat(files).hasSize(1);
+        }
+        assertThat(cache.get(module("org.example:a", "1.0.0"))).containsExactly(1);
+    }
+
+    private FileFragmentCache createCache() {
+        return new FileFragmentCache(tempDir, mapper, Logging.getLogger(FileFragmentCacheTest.class));
+    }
+
+    private EdcModule module(String modulePath, String version) {
+        return EdcModule.Builder.newInstance().modulePath(modulePath).version(version).build();
+    }
+}
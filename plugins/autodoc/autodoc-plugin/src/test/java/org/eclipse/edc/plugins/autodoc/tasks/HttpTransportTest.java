@@ -0,0 +1,101 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.plugins.autodoc.tasks;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HttpTransportTest {
+
+    private static final byte[] MANIFEST = "[{\"name\":\"module\"}]".getBytes(StandardCharsets.UTF_8);
+    private HttpServer server;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/manifest.json", exchange -> {
+            exchange.sendResponseHeaders(200, MANIFEST.length);
+            exchange.getResponseBody().write(MANIFEST);
+            exchange.close();
+        });
+        server.createContext("/slow.json", exchange -> {
+            try {
+                Thread.sleep(2_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void get_shouldRecordMetricsPerRepository() throws IOException {
+        var transport = new HttpTransport(Duration.ofSeconds(5), Duration.ofSeconds(5), Duration.ofSeconds(5));
+
+        var response = transport.get(uri("/manifest.json"));
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.body()).isEqualTo(MANIFEST);
+        assertThat(transport.getMetrics()).hasSize(1).containsKey("http://localhost:" + server.getAddress().getPort())
+                .allSatisfy((repository, metrics) -> {
+                    assertThat(metrics.getRequests()).isEqualTo(1);
+                    assertThat(metrics.getFailures()).isZero();
+                    assertThat(metrics.getBytes()).isEqualTo(MANIFEST.length);
+                    assertThat(metrics.getMaxLatency()).isPositive();
+                });
+    }
+
+    @Test
+    void get_shouldFail_whenReadTimeoutIsExceeded() {
+        var transport = new HttpTransport(Duration.ofSeconds(5), Duration.ofMillis(200), Duration.ofSeconds(5));
+
+        assertThatThrownBy(() -> transport.get(uri("/slow.json"))).isInstanceOf(HttpTimeoutException.class);
+        assertThat(transport.getMetrics().values()).allSatisfy(metrics -> assertThat(metrics.getFailures()).isEqualTo(1));
+    }
+
+    @Test
+    void get_shouldFail_whenDownloadDeadlineIsExceeded() {
+        var transport = new HttpTransport(Duration.ofSeconds(5), Duration.ofSeconds(5), Duration.ofMillis(200));
+
+        assertThatThrownBy(() -> transport.get(uri("/slow.json")))
+                .isInstanceOf(HttpTimeoutException.class)
+                .hasMessageContaining("download deadline");
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + server.getAddress().getPort() + path);
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.plugins.autodoc.tasks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.gradle.api.GradleException;
+import org.gradle.api.logging.Logging;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ManifestMergerTest {
+
+    private final ManifestMerger merger = new ManifestMerger(Logging.getLogger(ManifestMergerTest.class));
+    private final ObjectMapper mapper = new ObjectMapper();
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void merge_shouldCreateDestination() throws IOException {
+        var destination = tempDir.resolve("manifest.json").toFile();
+
+        merger.merge(destination, List.of(source("first.json", "[{\"name\":\"a\"},{\"name\":\"b\"}]")));
+
+        assertThat(read(destination)).containsExactly(Map.of("name", "a"), Map.of("name", "b"));
+    }
+
+    @Test
+    void merge_shouldConcatenateSources() throws IOException {
+        var destination = tempDir.resolve("manifest.json").toFile();
+
+        merger.merge(destination, List.of(source("first.json", "[{\"name\":\"a\",\"nested\":[1,{\"x\":[]}]}]"), source("second.json", "[]"),
+                source("third.json", "[ {\"name\":\"b\"} ]\n")));
+
+        assertThat(read(destination)).hasSize(2).extracting(m -> m.get("name")).containsExactly("a", "b");
+    }
+
+    @Test
+    void merge_shouldReplaceDestination() throws IOException {
+        var destination = source("edc.json", "[{\"name\":\"old\"}]");
+
+        merger.merge(destination, List.of(source("first.json", "[{\"name\":\"a\"}]"), source("second.json", "[{\"name\":\"b\"}]")));
+
+        assertThat(read(destination)).extracting(m -> m.get("name")).containsExactly("a", "b");
+    }
+
+    @Test
+    void merge_shouldWriteEmptyArray_withoutSources() throws IOException {
+        var destination = source("manifest.json", "{}");
+
+        merger.merge(destination, List.of());
+
+        assertThat(read(destination)).isEmpty();
+    }
+
+    @Test
+    void merge_shouldSkipInvalidSources() throws IOException {
+        var destination = tempDir.resolve("manifest.json").toFile();
+
+        merger.merge(destination, List.of(source("invalid.json", "[{\"name\":"), source("object.json", "{\"name\":\"x\"}"),
+                source("valid.json", "[{\"name\":\"a\"}]")));
+
+        assertThat(read(destination)).containsExactly(Map.of("name", "a"));
+    }
+
+    @Test
+    void merge_shouldThrow_whenSourceDoesNotExist() {
+        var destination = tempDir.resolve("manifest.json").toFile();
+
+        assertThatThrownBy(() -> merger.merge(destination, List.of(tempDir.resolve("missing.json").toFile())))
+                .isInstanceOf(GradleException.class);
+    }
+
+    private File source(String name, String content) throws IOException {
+        return Files.writeString(tempDir.resolve(name), content).toFile();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Map<String, Object>> read(File file) throws IOException {
+        return mapper.readValue(file, List.class);
+    }
+}
@@ -19,4 +19,5 @@ dependencies {
     api(libs.edc.runtime.metamodel)
 
     testImplementation(libs.edc.core.spi)
+    testImplementation(gradleTestKit())
 }
@@ -15,20 +15,28 @@
 package org.eclipse.edc.plugins.autodoc.core.processor;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.plugins.autodoc.core.processor.compiler.AnnotationValueCache;
+import org.eclipse.edc.plugins.autodoc.core.processor.generator.ManifestSerializer;
+import org.eclipse.edc.plugins.autodoc.core.processor.introspection.AnnotatedElementIndex;
 import org.eclipse.edc.plugins.autodoc.core.processor.introspection.ExtensionIntrospector;
 import org.eclipse.edc.plugins.autodoc.core.processor.introspection.ModuleIntrospector;
 import org.eclipse.edc.plugins.autodoc.core.processor.introspection.OverviewIntrospector;
+import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
 import org.eclipse.edc.runtime.metamodel.annotation.Spi;
 import org.eclipse.edc.runtime.metamodel.domain.EdcModule;
 import org.eclipse.edc.runtime.metamodel.domain.EdcServiceExtension;
 import org.eclipse.edc.runtime.metamodel.domain.ModuleType;
 import org.jetbrains.annotations.Nullable;
 
-import java.io.BufferedWriter;
-import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import javax.annotation.processing.AbstractProcessor;
@@ -42,6 +50,8 @@ import javax.lang.model.element.Element;
 import javax.lang.model.element.TypeElement;
 import javax.tools.StandardLocation;
 
+import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static javax.tools.Diagnostic.Kind.ERROR;
 import static javax.tools.Diagnostic.Kind.NOTE;
 
@@ -51,8 +61,14 @@ import static javax.tools.Diagnostic.Kind.NOTE;
  * Two processor parameters must be set: {@link #ID} which by convention uses Maven group id an artifact id coordinates;
  * and {@link #VERSION}. To Override the location where the manifest is generated, specify
  * {@link #EDC_OUTPUTDIR_OVERRIDE} as a processor parameter.
+ * <p>
+ * The processor is registered with Gradle as an <em>aggregating</em> incremental annotation processor. The manifest is therefore
+ * always created through the {@link javax.annotation.processing.Filer} with all contributing elements as originating elements,
+ * and only mirrored into the {@link #EDC_OUTPUTDIR_OVERRIDE} directory if one is configured. The mirrored manifest also provides
+ * the overviews of the extensions that Gradle passes in as class files, see {@link OverviewIntrospector}.
  */
 @SupportedAnnotationTypes({
+        "org.eclipse.edc.runtime.metamodel.annotation.Configuration",
         "org.eclipse.edc.runtime.metamodel.annotation.Setting",
         "org.eclipse.edc.runtime.metamodel.annotation.SettingContext",
         "org.eclipse.edc.runtime.metamodel.annotation.Extension",
@@ -70,8 +86,9 @@ public class EdcModuleProcessor extends AbstractProcessor {
     public static final String ID = "edc.id";
     public static final String EDC_OUTPUTDIR_OVERRIDE = "edc.outputDir";
     private static final String MANIFEST_NAME = "edc.json";
-    private final ObjectMapper mapper = new ObjectMapper();
+    private final ManifestSerializer serializer = new ManifestSerializer();
 
+    private AnnotationValueCache annotationValueCache;
     private ModuleIntrospector moduleIntrospector;
     private OverviewIntrospector overviewIntrospector;
 
@@ -81,27 +98,50 @@ public class EdcModuleProcessor extends AbstractProcessor {
 
     private ModuleType moduleType;
     private Set<Element> extensionElements;
+    private final Set<Element> originatingElements = new LinkedHashSet<>();
+
+    private long indexingTime;
+    private long processingTime;
+    private int scannedElements;
 
     @Override
     public synchronized void init(ProcessingEnvironment processingEnv) {
         super.init(processingEnv);
-        moduleIntrospector = new ModuleIntrospector(processingEnv);
+        annotationValueCache = new AnnotationValueCache(processingEnv.getElementUtils());
+        moduleIntrospector = new ModuleIntrospector(processingEnv, annotationValueCache);
         //todo: replace this Noop converter with an actual JavadocConverter
-        overviewIntrospector = new OverviewIntrospector(javadoc -> javadoc, processingEnv.getElementUtils());
+        overviewIntrospector = new OverviewIntrospector(javadoc -> javadoc, processingEnv.getElementUtils(), readPreviousOverviews());
 
-        extensionIntrospector = new ExtensionIntrospector(processingEnv.getElementUtils(), processingEnv.getTypeUtils());
+        extensionIntrospector = new ExtensionIntrospector(annotationValueCache, processingEnv.getTypeUtils());
     }
 
     @Override
     public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment environment) {
+        var start = System.nanoTime();
+        var index = AnnotatedElementIndex.of(environment, processingEnv.getElementUtils(), getSupportedAnnotationTypes());
+        indexingTime += System.nanoTime() - start;
+        scannedElements += index.getScannedElements();
+
+        var result = processRound(index, environment.processingOver());
+        annotationValueCache.clear();
+        processingTime += System.nanoTime() - start;
+
+        if (environment.processingOver() && moduleBuilder != null) {
+            processingEnv.getMessager().printMessage(NOTE, format("autodoc: indexed %d elements in %d ms, processing took %d ms in total",
+                    scannedElements, NANOSECONDS.toMillis(indexingTime), NANOSECONDS.toMillis(processingTime)));
+        }
+        return result;
+    }
+
+    private boolean processRound(AnnotatedElementIndex index, boolean processingOver) {
         if (moduleBuilder == null) {
-            var result = initializeModuleBuilder(environment);
+            var result = initializeModuleBuilder(index);
             if (!result) {
                 return false;  // error, do not continue processing
             }
         }
 
-        if (environment.processingOver()) {
+        if (processingOver) {
             if (moduleBuilder != null) {
                 writeManifest();
             }
@@ -109,6 +149,7 @@ public class EdcModuleProcessor extends AbstractProcessor {
         }
 
         if (moduleType == ModuleType.EXTENSION) {
+            originatingElements.addAll(extensionElements);
             extensionElements.forEach(element -> {
                 extensionBuilder = EdcServiceExtension.Builder.newInstance().type(moduleType)
                         .name(extensionIntrospector.getExtensionName(element))
@@ -116,22 +157,24 @@ public class EdcModuleProcessor extends AbstractProcessor {
                         .provides(extensionIntrospector.resolveProvidedServices(element))
                         .references(extensionIntrospector.resolveReferencedServices(element))
                         .configuration(extensionIntrospector.resolveConfigurationSettings(element))
-                        .overview(overviewIntrospector.generateModuleOverview(moduleType, environment))
+                        .overview(overviewIntrospector.getExtensionOverview(element))
                         .categories(extensionIntrospector.getExtensionCategories(element));
 
                 moduleBuilder.extension(extensionBuilder.build());
             });
         } else {
-            moduleBuilder.name(moduleIntrospector.getModuleName(environment));
-            moduleBuilder.categories(moduleIntrospector.getCategories(environment));
+            originatingElements.addAll(index.getElementsAnnotatedWith(Spi.class));
+            moduleBuilder.name(moduleIntrospector.getModuleName(index));
+            moduleBuilder.categories(moduleIntrospector.getCategories(index));
         }
 
-        moduleBuilder.extensionPoints(moduleIntrospector.resolveExtensionPoints(environment));
+        originatingElements.addAll(index.getElementsAnnotatedWith(ExtensionPoint.class));
+        moduleBuilder.extensionPoints(moduleIntrospector.resolveExtensionPoints(index));
 
         return false;
     }
 
-    private boolean initializeModuleBuilder(RoundEnvironment environment) {
+    private boolean initializeModuleBuilder(AnnotatedElementIndex index) {
         var id = processingEnv.getOptions().get(ID);
         if (id == null) {
             processingEnv.getMessager().printMessage(ERROR, "Value for '" + ID + "' not set on processor configuration. Skipping manifest generation.");
@@ -144,8 +187,8 @@ public class EdcModuleProcessor extends AbstractProcessor {
             return false;
         }
 
-        extensionElements = moduleIntrospector.getExtensionElements(environment);
-        moduleType = determineAndValidateModuleType(environment, extensionElements);
+        extensionElements = moduleIntrospector.getExtensionElements(index);
+        moduleType = determineAndValidateModuleType(index, extensionElements);
         if (moduleType == ModuleType.INVALID) {
             // error or not a module, return
             return false;
@@ -157,10 +200,10 @@ public class EdcModuleProcessor extends AbstractProcessor {
     }
 
     @Nullable
-    private ModuleType determineAndValidateModuleType(RoundEnvironment environment, Set<Element> extensionElements) {
+    private ModuleType determineAndValidateModuleType(AnnotatedElementIndex index, Set<Element> extensionElements) {
         if (extensionElements.isEmpty()) {
             // check if it is an SPI
-            var spiElements = environment.getElementsAnnotatedWith(Spi.class);
+            var spiElements = index.getElementsAnnotatedWith(Spi.class);
             if (spiElements.size() > 1) {
                 var types = spiElements.stream().map(e -> e.asType().toString()).collect(Collectors.joining(", "));
                 processingEnv.getMessager().printMessage(ERROR, "Multiple SPI definitions found in module: " + types);
@@ -175,19 +218,27 @@ public class EdcModuleProcessor extends AbstractProcessor {
         return ModuleType.EXTENSION;
     }
 
+    /**
+     * Writes the manifest through the {@link javax.annotation.processing.Filer}, so that Gradle can track it as the output of an
+     * aggregating processor. If {@link #EDC_OUTPUTDIR_OVERRIDE} is set, the same content is mirrored into that directory, unless
+     * the file there already has the same digest, so that tasks consuming it are not invalidated by an unchanged manifest.
+     */
     private void writeManifest() {
         try {
-            var filer = processingEnv.getFiler();
+            var content = serializer.serialize(List.of(moduleBuilder.build()));
+
+            var resource = processingEnv.getFiler().createResource(StandardLocation.SOURCE_OUTPUT, "", MANIFEST_NAME, originatingElements.toArray(Element[]::new));
+            try (var outputStream = resource.openOutputStream()) {
+                outputStream.write(content);
+            }
+
             var location = processingEnv.getOptions().get(EDC_OUTPUTDIR_OVERRIDE);
-            if (location != null) {
-                new File(location).mkdirs();
-                try (var writer = new BufferedWriter(new FileWriter(location + File.separator + MANIFEST_NAME))) {
-                    mapper.writeValue(writer, List.of(moduleBuilder.build()));
-                }
-            } else {
-                var resource = filer.createResource(StandardLocation.SOURCE_OUTPUT, "", MANIFEST_NAME);
-                try (var writer = resource.openWriter()) {
-                    mapper.writeValue(writer, List.of(moduleBuilder.build()));
+            if (location != null && !location.isBlank()) {
+                var manifest = Files.createDirectories(Path.of(location)).resolve(MANIFEST_NAME);
+                if (hasSameDigest(manifest, content)) {
+                    processingEnv.getMessager().printMessage(NOTE, "autodoc: manifest is unchanged, skipping write of " + manifest);
+                } else {
+                    Files.write(manifest, content);
                 }
             }
         } catch (IOException ex) {
@@ -195,5 +246,45 @@ public class EdcModuleProcessor extends AbstractProcessor {
         }
     }
 
+    /**
+     * Reads the extension overviews of the manifest that was mirrored into {@link #EDC_OUTPUTDIR_OVERRIDE} by the previous
+     * compilation, keyed by the class name of the extension. Returns an empty map if there is none, or if it cannot be read.
+     */
+    private Map<String, String> readPreviousOverviews() {
+        var location = processingEnv.getOptions().get(EDC_OUTPUTDIR_OVERRIDE);
+        if (location == null || location.isBlank()) {
+            return Map.of();
+        }
+        var manifest = Path.of(location).resolve(MANIFEST_NAME);
+        if (!Files.isRegularFile(manifest)) {
+            return Map.of();
+        }
+        var overviews = new HashMap<String, String>();
+        try {
+            new ObjectMapper().readTree(manifest.toFile()).forEach(module -> module.path("extensions").forEach(extension -> {
+                var overview = extension.path("overview");
+                if (overview.isTextual()) {
+                    overviews.put(extension.path("className").asText(), overview.asText());
+                }
+            }));
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(NOTE, "autodoc: cannot read previous manifest " + manifest + ": " + e.getMessage());
+            return Map.of();
+        }
+        return overviews;
+    }
+
+    private boolean hasSameDigest(Path file, byte[] content) throws IOException {
+        if (!Files.isRegularFile(file) || Files.size(file) != content.length) {
+            return false;
+        }
+        try {
+            var digest = MessageDigest.getInstance("SHA-256");
+            var existing = digest.digest(Files.readAllBytes(file));
+            return MessageDigest.isEqual(existing, digest.digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            return false;
+        }
+    }
 
 }
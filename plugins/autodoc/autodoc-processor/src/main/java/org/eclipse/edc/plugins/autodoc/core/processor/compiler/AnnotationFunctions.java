@@ -24,7 +24,6 @@ import javax.lang.model.element.AnnotationMirror;
 import javax.lang.model.element.Element;
 import javax.lang.model.type.ExecutableType;
 import javax.lang.model.type.TypeMirror;
-import javax.lang.model.util.Elements;
 import javax.lang.model.util.SimpleAnnotationValueVisitor9;
 
 import static java.lang.String.format;
@@ -73,56 +72,46 @@ public class AnnotationFunctions {
     }
 
     /**
-     * Returns the annotation attribute value of the given type and name.
+     * Returns the annotation attribute value of the given type and name, using the attribute values cached for the mirror.
      *
      * @param type             the value type
      * @param name             the attribute name
      * @param annotationMirror the annotation
-     * @param elementUtils     the current elements instance
+     * @param cache            the attribute value cache of the current round
      */
-    public static <T> T attributeValue(Class<T> type, String name, AnnotationMirror annotationMirror, Elements elementUtils) {
-        name += ANNOTATION_METHOD_POSTFIX;
-        var resolver = getResolver(type);
-        for (var entry : elementUtils.getElementValuesWithDefaults(annotationMirror).entrySet()) {
-            if (name.equals(entry.getKey().toString())) {
-                return type.cast(entry.getValue().accept(resolver, null));
-            }
+    public static <T> T attributeValue(Class<T> type, String name, AnnotationMirror annotationMirror, AnnotationValueCache cache) {
+        var value = cache.get(name, annotationMirror);
+        if (value == null) {
+            throw new IllegalArgumentException(format("Unknown attribute '%s%s' for annotation: %s", name, ANNOTATION_METHOD_POSTFIX, annotationMirror.getAnnotationType().asElement()));
         }
-        throw new IllegalArgumentException(format("Unknown attribute '%s' for annotation: %s", name, annotationMirror.getAnnotationType().asElement()));
+        return type.cast(value.accept(getResolver(type), null));
     }
 
     /**
-     * Returns the annotation attribute value as a collection of strings.
+     * Returns the annotation attribute value as a collection of strings, using the attribute values cached for the mirror.
      *
      * @param name             the attribute name
      * @param annotationMirror the annotation
-     * @param elementUtils     the current elements instance
+     * @param cache            the attribute value cache of the current round
      */
-    public static List<String> attributeStringValues(String name, AnnotationMirror annotationMirror, Elements elementUtils) {
-        name += ANNOTATION_METHOD_POSTFIX;
-        for (var entry : elementUtils.getElementValuesWithDefaults(annotationMirror).entrySet()) {
-            if (name.equals(entry.getKey().toString())) {
-                return entry.getValue().accept(STRING_VALUES_RESOLVER, new ArrayList<>());
-            }
+    public static List<String> attributeStringValues(String name, AnnotationMirror annotationMirror, AnnotationValueCache cache) {
+        var value = cache.get(name, annotationMirror);
+        if (value == null) {
+            throw new IllegalArgumentException(format("Unknown attribute '%s%s' for annotation: %s", name, ANNOTATION_METHOD_POSTFIX, annotationMirror.getAnnotationType().asElement()));
         }
-        throw new IllegalArgumentException(format("Unknown attribute '%s' for annotation: %s", name, annotationMirror.getAnnotationType().asElement()));
+        return value.accept(STRING_VALUES_RESOLVER, new ArrayList<>());
     }
 
     /**
-     * Returns the annotation attribute value as a collection of type names.
+     * Returns the annotation attribute value as a collection of type names, using the attribute values cached for the mirror.
      *
      * @param name             the attribute name
      * @param annotationMirror the annotation
-     * @param elementUtils     the current elements instance
+     * @param cache            the attribute value cache of the current round
      */
-    public static List<String> attributeTypeValues(String name, AnnotationMirror annotationMirror, Elements elementUtils) {
-        name += ANNOTATION_METHOD_POSTFIX;
-        for (var entry : elementUtils.getElementValuesWithDefaults(annotationMirror).entrySet()) {
-            if (name.equals(entry.getKey().toString())) {
-                return entry.getValue().accept(CLASS_VALUES_RESOLVER, new ArrayList<>());
-            }
-        }
-        return emptyList();
+    public static List<String> attributeTypeValues(String name, AnnotationMirror annotationMirror, AnnotationValueCache cache) {
+        var value = cache.get(name, annotationMirror);
+        return value != null ? value.accept(CLASS_VALUES_RESOLVER, new ArrayList<>()) : emptyList();
     }
 
     @NotNull
@@ -0,0 +1,65 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.plugins.autodoc.core.processor.compiler;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.util.Elements;
+
+/**
+ * Caches the attribute values of annotation mirrors, including defaults. {@link Elements#getElementValuesWithDefaults(AnnotationMirror)}
+ * is called at most once per mirror, all further lookups are served from a name-to-value table.
+ * <p>
+ * Mirrors are keyed by identity, and they are only stable within one processing round, so the cache must be cleared at the end of
+ * each round.
+ */
+public class AnnotationValueCache {
+    private final Elements elementUtils;
+    private final Map<AnnotationMirror, Map<String, AnnotationValue>> values = new IdentityHashMap<>();
+
+    public AnnotationValueCache(Elements elementUtils) {
+        this.elementUtils = elementUtils;
+    }
+
+    /**
+     * Returns the value of the attribute with the given name, or null if the annotation does not declare such an attribute.
+     *
+     * @param name             the attribute name
+     * @param annotationMirror the annotation
+     */
+    @Nullable
+    public AnnotationValue get(String name, AnnotationMirror annotationMirror) {
+        return values.computeIfAbsent(annotationMirror, this::resolve).get(name);
+    }
+
+    /**
+     * Removes all cached values. Must be called at the end of every processing round.
+     */
+    public void clear() {
+        values.clear();
+    }
+
+    private Map<String, AnnotationValue> resolve(AnnotationMirror annotationMirror) {
+        var table = new HashMap<String, AnnotationValue>();
+        elementUtils.getElementValuesWithDefaults(annotationMirror)
+                .forEach((method, value) -> table.put(method.getSimpleName().toString(), value));
+        return table;
+    }
+}
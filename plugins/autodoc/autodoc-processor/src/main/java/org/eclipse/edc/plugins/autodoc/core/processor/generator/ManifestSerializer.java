@@ -0,0 +1,82 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.plugins.autodoc.core.processor.generator;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.eclipse.edc.runtime.metamodel.domain.EdcModule;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Serializes EDC modules into a deterministic JSON representation: object properties are written in alphabetical order, and
+ * extensions, configuration settings and services are sorted, so that the same sources always produce byte-identical manifests.
+ */
+public class ManifestSerializer {
+    private static final Map<String, String> SORT_KEYS = Map.of(
+            "extensions", "className",
+            "configuration", "key",
+            "provides", "service",
+            "references", "service",
+            "extensionPoints", "service");
+
+    private final ObjectMapper mapper = JsonMapper.builder()
+            .enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+            .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+            .build();
+
+    /**
+     * Serializes the given modules.
+     *
+     * @param modules the modules
+     * @return the UTF-8 encoded JSON array
+     */
+    public byte[] serialize(List<EdcModule> modules) throws JsonProcessingException {
+        var tree = mapper.valueToTree(modules);
+        sortArrays(tree);
+        return mapper.writeValueAsBytes(tree);
+    }
+
+    private void sortArrays(JsonNode node) {
+        if (node instanceof ObjectNode objectNode) {
+            objectNode.fields().forEachRemaining(field -> {
+                var sortKey = SORT_KEYS.get(field.getKey());
+                if (sortKey != null && field.getValue() instanceof ArrayNode arrayNode) {
+                    sort(arrayNode, sortKey);
+                }
+                sortArrays(field.getValue());
+            });
+        } else if (node instanceof ArrayNode arrayNode) {
+            arrayNode.forEach(this::sortArrays);
+        }
+    }
+
+    private void sort(ArrayNode arrayNode, String sortKey) {
+        var elements = new ArrayList<JsonNode>(arrayNode.size());
+        arrayNode.forEach(elements::add);
+        elements.sort(Comparator.comparing(element -> element.path(sortKey).asText()));
+        arrayNode.removeAll();
+        arrayNode.addAll(elements);
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.plugins.autodoc.core.processor.introspection;
+
+import java.lang.annotation.Annotation;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ModuleElement;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.ElementScanner14;
+import javax.lang.model.util.Elements;
+
+/**
+ * Index of the elements of one processing round, bucketed by annotation type. The index is built with a single traversal of the
+ * round's root elements, so that introspectors don't have to call {@link RoundEnvironment#getElementsAnnotatedWith(Class)} once
+ * per annotation.
+ * <p>
+ * The traversal follows the same rules as {@link RoundEnvironment#getElementsAnnotatedWith(Class)}: root types, their nested
+ * types, members, constructors, parameters and record components are included, annotations inherited by types are honored,
+ * and package or module elements are included without descending into their contents.
+ */
+public class AnnotatedElementIndex {
+    private final Map<String, Set<Element>> buckets;
+    private final int scannedElements;
+
+    private AnnotatedElementIndex(Map<String, Set<Element>> buckets, int scannedElements) {
+        this.buckets = buckets;
+        this.scannedElements = scannedElements;
+    }
+
+    /**
+     * Builds the index for the given round.
+     *
+     * @param environment     the current round
+     * @param elementUtils    the current elements instance, used to resolve inherited annotations
+     * @param annotationTypes fully-qualified names of the annotation types that should be indexed
+     */
+    public static AnnotatedElementIndex of(RoundEnvironment environment, Elements elementUtils, Set<String> annotationTypes) {
+        var scanner = new IndexingScanner(elementUtils, annotationTypes);
+        environment.getRootElements().forEach(scanner::scan);
+        return new AnnotatedElementIndex(scanner.buckets, scanner.scannedElements);
+    }
+
+    /**
+     * Returns the elements annotated with the given annotation type in the order they were encountered, or an empty set if the
+     * annotation type was not indexed or is not present in this round.
+     */
+    public Set<Element> getElementsAnnotatedWith(Class<? extends Annotation> annotationType) {
+        return Collections.unmodifiableSet(buckets.getOrDefault(annotationType.getName(), Collections.emptySet()));
+    }
+
+    /**
+     * Returns the number of elements that were visited while building the index.
+     */
+    public int getScannedElements() {
+        return scannedElements;
+    }
+
+    private static class IndexingScanner extends ElementScanner14<Void, Void> {
+        private final Elements elementUtils;
+        private final Set<String> annotationTypes;
+        private final Map<String, Set<Element>> buckets = new HashMap<>();
+        private int scannedElements;
+
+        IndexingScanner(Elements elementUtils, Set<String> annotationTypes) {
+            this.elementUtils = elementUtils;
+            this.annotationTypes = annotationTypes;
+        }
+
+        @Override
+        public Void scan(Element element, Void unused) {
+            scannedElements++;
+            var mirrors = element instanceof TypeElement ? elementUtils.getAllAnnotationMirrors(element) : element.getAnnotationMirrors();
+            for (var mirror : mirrors) {
+                var annotationType = mirror.getAnnotationType().toString();
+                if (annotationTypes.contains(annotationType)) {
+                    buckets.computeIfAbsent(annotationType, k -> new LinkedHashSet<>()).add(element);
+                }
+            }
+            return super.scan(element, unused);
+        }
+
+        @Override
+        public Void visitPackage(PackageElement element, Void unused) {
+            return null;
+        }
+
+        @Override
+        public Void visitModule(ModuleElement element, Void unused) {
+            return null;
+        }
+    }
+}
@@ -15,6 +15,7 @@
 package org.eclipse.edc.plugins.autodoc.core.processor.introspection;
 
 import org.eclipse.edc.plugins.autodoc.core.processor.compiler.AnnotationFunctions;
+import org.eclipse.edc.plugins.autodoc.core.processor.compiler.AnnotationValueCache;
 import org.eclipse.edc.runtime.metamodel.annotation.Configuration;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
@@ -36,7 +37,6 @@ import java.util.stream.Stream;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.VariableElement;
 import javax.lang.model.type.TypeMirror;
-import javax.lang.model.util.Elements;
 import javax.lang.model.util.Types;
 
 import static java.util.Optional.ofNullable;
@@ -52,11 +52,11 @@ import static org.eclipse.edc.plugins.autodoc.core.processor.compiler.ElementFun
  */
 public class ExtensionIntrospector {
     public static final String CONTEXT_ATTRIBUTE = "context";
-    private final Elements elementUtils;
+    private final AnnotationValueCache annotationValues;
     private final Types typeUtils;
 
-    public ExtensionIntrospector(Elements elementUtils, Types typeUtils) {
-        this.elementUtils = elementUtils;
+    public ExtensionIntrospector(AnnotationValueCache annotationValues, Types typeUtils) {
+        this.annotationValues = annotationValues;
         this.typeUtils = typeUtils;
     }
 
@@ -65,7 +65,7 @@ public class ExtensionIntrospector {
      */
     public List<String> getExtensionCategories(Element extensionElement) {
         var annotationMirror = mirrorFor(Extension.class, extensionElement);
-        return annotationMirror != null ? attributeStringValues("categories", annotationMirror, elementUtils) : Collections.emptyList();
+        return annotationMirror != null ? attributeStringValues("categories", annotationMirror, annotationValues) : Collections.emptyList();
     }
 
     /**
@@ -74,7 +74,7 @@ public class ExtensionIntrospector {
     public List<ServiceReference> resolveReferencedServices(Element extensionElement) {
         return getEnclosedElementsAnnotatedWith(extensionElement, Inject.class)
                 .map(element -> {
-                    var required = attributeValue(Boolean.class, "required", mirrorFor(Inject.class, element), elementUtils);
+                    var required = attributeValue(Boolean.class, "required", mirrorFor(Inject.class, element), annotationValues);
                     return new ServiceReference(typeFor(element), required);
                 })
                 .collect(toList());
@@ -87,7 +87,7 @@ public class ExtensionIntrospector {
 
         // class annotation @Provides
         var providesServices = ofNullable(mirrorFor(Provides.class, element))
-                .map(mirror -> attributeTypeValues("value", mirror, elementUtils).stream())
+                .map(mirror -> attributeTypeValues("value", mirror, annotationValues).stream())
                 .orElse(Stream.empty());
 
         // @Provider methods
@@ -119,7 +119,7 @@ public class ExtensionIntrospector {
     public String getExtensionName(Element extensionElement) {
         var annotationMirror = mirrorFor(Extension.class, extensionElement);
         return annotationMirror != null ?
-                attributeValue(String.class, "value", annotationMirror, elementUtils) :
+                attributeValue(String.class, "value", annotationMirror, annotationValues) :
                 extensionElement.getSimpleName().toString();
     }
 
@@ -141,24 +141,24 @@ public class ExtensionIntrospector {
      */
     private ConfigurationSetting createConfigurationSetting(VariableElement settingElement) {
         var settingMirror = mirrorFor(Setting.class, settingElement);
-        var prefix = attributeValue(String.class, CONTEXT_ATTRIBUTE, settingMirror, elementUtils);
+        var prefix = attributeValue(String.class, CONTEXT_ATTRIBUTE, settingMirror, annotationValues);
         if (prefix.isEmpty()) {
             prefix = resolveConfigurationPrefix(settingElement);
         }
 
         // either take the config key value directly from the annotated variable or from the "key" attribute
         var keyValue = prefix + ofNullable(settingElement.getConstantValue())
-                .orElseGet(() -> attributeValue(String.class, "key", settingMirror, elementUtils))
+                .orElseGet(() -> attributeValue(String.class, "key", settingMirror, annotationValues))
                 .toString();
 
         return ConfigurationSetting.Builder.newInstance()
                 .key(keyValue)
-                .description(attributeValue(String.class, "value", settingMirror, elementUtils))
-                .type(attributeValue(String.class, "type", settingMirror, elementUtils))
-                .required(attributeValue(Boolean.class, "required", settingMirror, elementUtils))
-                .maximum(attributeValue(Long.class, "max", settingMirror, elementUtils))
-                .minimum(attributeValue(Long.class, "min", settingMirror, elementUtils))
-                .defaultValue(attributeValue(String.class, "defaultValue", settingMirror, elementUtils))
+                .description(attributeValue(String.class, "value", settingMirror, annotationValues))
+                .type(attributeValue(String.class, "type", settingMirror, annotationValues))
+                .required(attributeValue(Boolean.class, "required", settingMirror, annotationValues))
+                .maximum(attributeValue(Long.class, "max", settingMirror, annotationValues))
+                .minimum(attributeValue(Long.class, "min", settingMirror, annotationValues))
+                .defaultValue(attributeValue(String.class, "defaultValue", settingMirror, annotationValues))
                 .deprecated(mirrorFor(Deprecated.class, settingElement) != null)
                 .build();
     }
@@ -173,6 +173,6 @@ public class ExtensionIntrospector {
             return "";
         }
         var contextMirror = mirrorFor(SettingContext.class, enclosingElement);
-        return contextMirror != null ? attributeValue(String.class, "value", contextMirror, elementUtils) : "";
+        return contextMirror != null ? attributeValue(String.class, "value", contextMirror, annotationValues) : "";
     }
 }
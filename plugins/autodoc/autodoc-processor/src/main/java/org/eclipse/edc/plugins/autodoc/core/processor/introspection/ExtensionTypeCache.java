@@ -0,0 +1,73 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.plugins.autodoc.core.processor.introspection;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+
+/**
+ * Determines whether types are EDC extensions. The {@code ServiceExtension} and {@code SystemExtension} types are resolved once, and
+ * the verdict for every {@link TypeElement} is memoized, so that each type is checked only once no matter how many annotated
+ * members it encloses.
+ */
+class ExtensionTypeCache {
+    private static final String SERVICE_EXTENSION_NAME = "org.eclipse.edc.spi.system.ServiceExtension";
+    private static final String SYSTEM_EXTENSION_NAME = "org.eclipse.edc.spi.system.SystemExtension";
+    private final Types typeUtils;
+    private final TypeMirror serviceExtensionType;
+    private final TypeMirror systemExtensionType;
+    private final Map<TypeElement, Boolean> serviceExtensions = new HashMap<>();
+    private final Map<TypeElement, Boolean> systemExtensions = new HashMap<>();
+
+    ExtensionTypeCache(Elements elementUtils, Types typeUtils) {
+        this.typeUtils = typeUtils;
+        serviceExtensionType = erasedType(elementUtils, SERVICE_EXTENSION_NAME);
+        systemExtensionType = erasedType(elementUtils, SYSTEM_EXTENSION_NAME);
+    }
+
+    /**
+     * Checks whether the element is a type that has {@code ServiceExtension} in its type hierarchy.
+     */
+    boolean isServiceExtension(Element element) {
+        return isAssignable(element, serviceExtensionType, serviceExtensions);
+    }
+
+    /**
+     * Checks whether the element is a type that has {@code SystemExtension} in its type hierarchy.
+     */
+    boolean isSystemExtension(Element element) {
+        return isAssignable(element, systemExtensionType, systemExtensions);
+    }
+
+    private boolean isAssignable(Element element, @Nullable TypeMirror extensionType, Map<TypeElement, Boolean> verdicts) {
+        if (extensionType == null || !(element instanceof TypeElement typeElement)) {
+            return false;
+        }
+        return verdicts.computeIfAbsent(typeElement, t -> typeUtils.isAssignable(typeUtils.erasure(t.asType()), extensionType));
+    }
+
+    @Nullable
+    private TypeMirror erasedType(Elements elementUtils, String name) {
+        var typeElement = elementUtils.getTypeElement(name);
+        return typeElement != null ? typeUtils.erasure(typeElement.asType()) : null;
+    }
+}
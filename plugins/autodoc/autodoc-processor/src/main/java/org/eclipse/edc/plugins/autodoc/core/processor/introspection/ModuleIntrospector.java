@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.plugins.autodoc.core.processor.introspection;
 
+import org.eclipse.edc.plugins.autodoc.core.processor.compiler.AnnotationValueCache;
 import org.eclipse.edc.runtime.metamodel.annotation.Configuration;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
@@ -31,11 +32,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.annotation.processing.ProcessingEnvironment;
-import javax.annotation.processing.RoundEnvironment;
 import javax.lang.model.element.Element;
-import javax.lang.model.element.TypeElement;
-import javax.lang.model.util.Elements;
-import javax.lang.model.util.Types;
 
 import static java.util.stream.Collectors.toList;
 import static javax.tools.Diagnostic.Kind.ERROR;
@@ -47,35 +44,33 @@ import static org.eclipse.edc.plugins.autodoc.core.processor.compiler.Annotation
  * Contains methods for introspecting the current module using the Java Compiler API.
  */
 public class ModuleIntrospector {
-    private static final String SERVICE_EXTENSION_NAME = "org.eclipse.edc.spi.system.ServiceExtension";
-    private static final String SYSTEM_EXTENSION_NAME = "org.eclipse.edc.spi.system.SystemExtension";
-    private final Elements elementUtils;
-    private final Types typeUtils;
     private final ProcessingEnvironment processingEnv;
+    private final AnnotationValueCache annotationValues;
+    private final ExtensionTypeCache extensionTypes;
 
-    public ModuleIntrospector(ProcessingEnvironment processingEnv) {
+    public ModuleIntrospector(ProcessingEnvironment processingEnv, AnnotationValueCache annotationValues) {
         this.processingEnv = processingEnv;
-        this.elementUtils = processingEnv.getElementUtils();
-        this.typeUtils = processingEnv.getTypeUtils();
+        this.annotationValues = annotationValues;
+        this.extensionTypes = new ExtensionTypeCache(processingEnv.getElementUtils(), processingEnv.getTypeUtils());
     }
 
-    public List<String> getCategories(RoundEnvironment environment) {
-        var extensionElement = environment.getElementsAnnotatedWith(Spi.class).iterator().next();
-        return attributeStringValues("categories", mirrorFor(Spi.class, extensionElement), elementUtils);
+    public List<String> getCategories(AnnotatedElementIndex index) {
+        var extensionElement = index.getElementsAnnotatedWith(Spi.class).iterator().next();
+        return attributeStringValues("categories", mirrorFor(Spi.class, extensionElement), annotationValues);
     }
 
     /**
      * Resolves extension points declared with {@link ExtensionPoint}.
      */
-    public List<Service> resolveExtensionPoints(RoundEnvironment environment) {
-        return environment.getElementsAnnotatedWith(ExtensionPoint.class).stream()
+    public List<Service> resolveExtensionPoints(AnnotatedElementIndex index) {
+        return index.getElementsAnnotatedWith(ExtensionPoint.class).stream()
                 .map(element -> new Service(element.asType().toString()))
                 .collect(toList());
     }
 
-    public String getModuleName(RoundEnvironment environment) {
-        var extensionElement = environment.getElementsAnnotatedWith(Spi.class).iterator().next();
-        return attributeValue(String.class, "value", mirrorFor(Spi.class, extensionElement), elementUtils);
+    public String getModuleName(AnnotatedElementIndex index) {
+        var extensionElement = index.getElementsAnnotatedWith(Spi.class).iterator().next();
+        return attributeValue(String.class, "value", mirrorFor(Spi.class, extensionElement), annotationValues);
     }
 
     /**
@@ -91,68 +86,50 @@ public class ModuleIntrospector {
      * Note that elements are pruned, i.e. every extension only occurs once. This is important because extensions that have multiple
      * relevant fields and are annotated, will only occur once in the result.
      *
-     * @param environment the {@link RoundEnvironment} that is passed in to the annotation processor
+     * @param index the {@link AnnotatedElementIndex} of the current processing round
      * @return a set containing the distinct extension symbols. Elements in that set are most likely of type Symbol.ClassSymbol
      */
-    public Set<Element> getExtensionElements(RoundEnvironment environment) {
+    public Set<Element> getExtensionElements(AnnotatedElementIndex index) {
 
 
-        var settingsSymbols = environment.getElementsAnnotatedWith(Setting.class).stream()
+        var settingsSymbols = index.getElementsAnnotatedWith(Setting.class).stream()
                 .peek(setting -> {
-                    var serviceExtensionType = typeUtils.erasure(elementUtils.getTypeElement(SYSTEM_EXTENSION_NAME).asType());
-                    var enclosingElement = setting.getEnclosingElement().asType();
+                    var enclosingElement = setting.getEnclosingElement();
 
                     // @Setting annotations may only occur in extension classes or in types annotated with @Settings
-                    if (!typeUtils.isAssignable(enclosingElement, serviceExtensionType) && setting.getEnclosingElement().getAnnotation(Settings.class) == null) {
+                    if (!extensionTypes.isSystemExtension(enclosingElement) && enclosingElement.getAnnotation(Settings.class) == null) {
                         var message = "@Setting annotation must be used inside a ServiceExtension implementation or a type annotated with @Settings, the " +
-                                      "ones defined in %s will be excluded from the autodoc manifest".formatted(enclosingElement);
+                                      "ones defined in %s will be excluded from the autodoc manifest".formatted(enclosingElement.asType());
                         processingEnv.getMessager().printMessage(ERROR, message, setting);
                     }
                 });
 
         // check that fields annotated with @Configuration occur only inside extension classes
-        environment.getElementsAnnotatedWith(Configuration.class)
+        index.getElementsAnnotatedWith(Configuration.class)
                 .forEach(setting -> {
-                    var serviceExtensionType = typeUtils.erasure(elementUtils.getTypeElement(SYSTEM_EXTENSION_NAME).asType());
-                    var enclosingElement = setting.getEnclosingElement().asType();
+                    var enclosingElement = setting.getEnclosingElement();
 
-                    if (!typeUtils.isAssignable(enclosingElement, serviceExtensionType)) {
+                    if (!extensionTypes.isSystemExtension(enclosingElement)) {
                         var message = "@Configuration annotations must be used inside a ServiceExtension implementation, the " +
-                                      "ones defined in %s will be excluded from the autodoc manifest".formatted(enclosingElement);
+                                      "ones defined in %s will be excluded from the autodoc manifest".formatted(enclosingElement.asType());
                         processingEnv.getMessager().printMessage(ERROR, message, setting);
                     }
                 });
 
-        var injectSymbols = environment.getElementsAnnotatedWith(Inject.class);
-        var providerSymbols = environment.getElementsAnnotatedWith(Provider.class);
+        var injectSymbols = index.getElementsAnnotatedWith(Inject.class);
+        var providerSymbols = index.getElementsAnnotatedWith(Provider.class);
 
         var classes = Stream.of(settingsSymbols, injectSymbols.stream(), providerSymbols.stream())
                 .reduce(Stream::concat)
                 .orElse(Stream.empty())
                 .map(Element::getEnclosingElement)
-                .filter(this::isExtension)
+                .filter(extensionTypes::isServiceExtension)
                 .collect(Collectors.toSet());
 
-        classes.addAll(environment.getElementsAnnotatedWith(Requires.class));
-        classes.addAll(environment.getElementsAnnotatedWith(Provides.class));
-        classes.addAll(environment.getElementsAnnotatedWith(Extension.class));
+        classes.addAll(index.getElementsAnnotatedWith(Requires.class));
+        classes.addAll(index.getElementsAnnotatedWith(Provides.class));
+        classes.addAll(index.getElementsAnnotatedWith(Extension.class));
 
         return classes;
     }
-
-    /**
-     * Checks whether an element has "ServiceExtension" in their type hierarchy
-     */
-    private boolean isExtension(Element element) {
-
-        var t = (TypeElement) element;
-        while (t != null && !t.toString().equals(Object.class.getName())) {
-            if (t.getInterfaces().stream().anyMatch(p -> p.toString().contains(SERVICE_EXTENSION_NAME))) {
-                return true;
-            }
-            t = (TypeElement) typeUtils.asElement(t.getSuperclass());
-            // do whatever with element
-        }
-        return false;
-    }
 }
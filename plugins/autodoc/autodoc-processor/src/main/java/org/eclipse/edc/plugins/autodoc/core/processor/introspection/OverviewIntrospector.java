@@ -16,45 +16,49 @@ package org.eclipse.edc.plugins.autodoc.core.processor.introspection;
 
 import org.eclipse.edc.plugins.autodoc.core.processor.generator.JavadocConverter;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
-import org.eclipse.edc.runtime.metamodel.annotation.Spi;
-import org.eclipse.edc.runtime.metamodel.domain.ModuleType;
 import org.jetbrains.annotations.Nullable;
 
-import javax.annotation.processing.RoundEnvironment;
+import java.util.Map;
+import javax.lang.model.element.Element;
 import javax.lang.model.util.Elements;
 
 /**
- * Generates a module overview.
+ * Generates extension overviews from the Javadoc of the types annotated with {@link Extension}.
+ * <p>
+ * When Gradle compiles incrementally, it passes the unchanged types to the processor as class files, for which no Javadoc is
+ * available. For those, the overview of the previous manifest is reused, keyed by the class name of the extension. As a
+ * consequence, an extension whose Javadoc was removed keeps its previous overview until the module is fully recompiled.
  */
 public class OverviewIntrospector {
+    private static final String NO_OVERVIEW = "No overview provided.";
     private final JavadocConverter javadocConverter;
     private final Elements elementUtils;
+    private final Map<String, String> previousOverviews;
 
     public OverviewIntrospector(@Nullable JavadocConverter javadocConverter, Elements elementUtils) {
+        this(javadocConverter, elementUtils, Map.of());
+    }
+
+    public OverviewIntrospector(@Nullable JavadocConverter javadocConverter, Elements elementUtils, Map<String, String> previousOverviews) {
         this.javadocConverter = javadocConverter;
         this.elementUtils = elementUtils;
+        this.previousOverviews = previousOverviews;
     }
 
     /**
-     * Generated overview documentation by converting Javadoc to a Markdown representation. For SPI modules, the Javadoc is taken from the <code>package-info.java</code> type
-     * annotated with {@link Spi}. For extensions, the Javadoc is taken from the type annotated with {@link Extension}.
+     * Generates the overview of a single extension from its own Javadoc. Returns null if the element is not annotated with
+     * {@link Extension}.
      */
     @Nullable
-    public String generateModuleOverview(ModuleType moduleType, RoundEnvironment environment) {
-        var annotation = moduleType == ModuleType.EXTENSION ? Extension.class : Spi.class;
-        var elements = environment.getElementsAnnotatedWith(annotation);
-        if (elements.isEmpty()) {
-            return null;
-        }
-
-        var moduleElement = elements.iterator().next();
-        var javadoc = elementUtils.getDocComment(moduleElement);
+    public String getExtensionOverview(Element extensionElement) {
+        return extensionElement.getAnnotation(Extension.class) == null ? null : convert(extensionElement);
+    }
 
+    private String convert(Element element) {
+        var javadoc = elementUtils.getDocComment(element);
         if (javadoc == null) {
-            return "No overview provided.";
+            return previousOverviews.getOrDefault(element.asType().toString(), NO_OVERVIEW);
         }
         return javadocConverter != null ? javadocConverter.generate(javadoc) : "No JavadocConverter available";
     }
-
-
 }
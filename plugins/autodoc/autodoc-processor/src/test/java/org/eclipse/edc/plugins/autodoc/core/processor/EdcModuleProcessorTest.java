@@ -30,6 +30,7 @@ import org.eclipse.edc.runtime.metamodel.domain.EdcModule;
 import org.eclipse.edc.runtime.metamodel.domain.EdcServiceExtension;
 import org.eclipse.edc.runtime.metamodel.domain.Service;
 import org.eclipse.edc.runtime.metamodel.domain.ServiceReference;
+import org.gradle.testkit.runner.GradleRunner;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -44,6 +45,7 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
@@ -59,6 +61,8 @@ import javax.tools.ToolProvider;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.fail;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.assertj.core.api.InstanceOfAssertFactories.COLLECTION;
 import static org.eclipse.edc.plugins.autodoc.core.processor.Constants.TEST_CLASS_PREFIX_SETTING_KEY;
 import static org.eclipse.edc.plugins.autodoc.core.processor.Constants.TEST_FIELD_PREFIX_SETTING_KEY;
 import static org.eclipse.edc.plugins.autodoc.core.processor.Constants.TEST_SETTING_DEFAULT_VALUE;
@@ -116,6 +120,17 @@ public class EdcModuleProcessorTest {
             assertThat(Files.list(newTempDir)).anyMatch(p -> p.getFileName().endsWith("edc.json"));
         }
 
+        @Test
+        void shouldWriteManifestThroughFiler_whenOutputFolderIsOverridden() throws IOException {
+            var newTempDir = Files.createTempDirectory("test");
+            var task = createTask("-Aedc.version=1.2.3", "-Aedc.id=someid", "-Aedc.outputDir=" + newTempDir, getFiles("testextensions"));
+
+            var result = task.call();
+
+            assertThat(result).isTrue();
+            assertThat(tempDir.resolve("edc.json")).exists().hasSameTextualContentAs(newTempDir.resolve("edc.json"));
+        }
+
         private static class ValidCompilerArgsProvider implements ArgumentsProvider {
             @Override
             public Stream<? extends Arguments> provideArguments(ExtensionContext context) {
@@ -210,7 +225,7 @@ public class EdcModuleProcessorTest {
                 assertThat(references).contains(new ServiceReference(RequiredService.class.getName(), true));
 
                 assertThat(ext1.getConfiguration()).hasSize(2).satisfies(configurations -> {
-                    assertThat(configurations).element(0).satisfies(configuration -> {
+                    assertThat(configurations).element(1).satisfies(configuration -> {
                         assertThat(configuration).isNotNull();
                         assertThat(configuration.getKey()).isEqualTo(SampleExtensionWithoutAnnotation.TEST_SETTING);
                         assertThat(configuration.isRequired()).isTrue();
@@ -219,7 +234,7 @@ public class EdcModuleProcessorTest {
                         assertThat(configuration.isDeprecated()).isFalse();
                     });
 
-                    assertThat(configurations).element(1).satisfies(deprecatedConfiguration -> {
+                    assertThat(configurations).element(0).satisfies(deprecatedConfiguration -> {
                         assertThat(deprecatedConfiguration.getKey()).isEqualTo(SampleExtensionWithoutAnnotation.DEPRECATED_TEST_SETTING);
                         assertThat(deprecatedConfiguration.isDeprecated()).isEqualTo(true);
                     });
@@ -261,6 +276,133 @@ public class EdcModuleProcessorTest {
 
     }
 
+    @Nested
+    class Incremental {
+        @Test
+        void shouldBeRegisteredAsAggregatingProcessor() throws IOException {
+            try (var stream = getClass().getClassLoader().getResourceAsStream("META-INF/gradle/incremental.annotation.processors")) {
+                assertThat(stream).isNotNull();
+                var registrations = new String(stream.readAllBytes()).lines().filter(line -> !line.isBlank()).toList();
+
+                assertThat(registrations).containsExactly(EdcModuleProcessor.class.getName() + ",aggregating");
+            }
+        }
+
+        @Test
+        void shouldNotRewriteManifest_whenContentIsUnchanged() throws IOException {
+            var outputDir = Files.createTempDirectory("test");
+            var manifest = outputDir.resolve("edc.json");
+            createTask("-Aedc.version=1.2.3", "-Aedc.id=someid", "-Aedc.outputDir=" + outputDir, getFiles("testextensions")).call();
+            var lastModified = FileTime.fromMillis(1000);
+            Files.setLastModifiedTime(manifest, lastModified);
+
+            var result = createTask("-Aedc.version=1.2.3", "-Aedc.id=someid", "-Aedc.outputDir=" + outputDir, getFiles("testextensions")).call();
+
+            assertThat(result).isTrue();
+            assertThat(Files.getLastModifiedTime(manifest)).isEqualTo(lastModified);
+            assertThat(manifest).hasSameTextualContentAs(tempDir.resolve("edc.json"));
+        }
+
+        @Test
+        void shouldKeepUnchangedExtensions_whenRecompiledIncrementally() throws IOException {
+            var classpath = Stream.of(System.getProperty("java.class.path").split(File.pathSeparator))
+                    .map(entry -> "\"" + entry.replace('\\', '/') + "\"")
+                    .collect(Collectors.joining(", "));
+            Files.writeString(tempDir.resolve("settings.gradle"), "rootProject.name = \"module\"\n");
+            Files.writeString(tempDir.resolve("build.gradle"), """
+                    plugins {
+                        id("java")
+                    }
+                    dependencies {
+                        compileOnly(files(%1$s))
+                        annotationProcessor(files(%1$s))
+                    }
+                    tasks.named("compileJava") {
+                        options.compilerArgs.addAll(["-Aedc.id=org.example:module", "-Aedc.version=1.0.0", "-Aedc.outputDir=${layout.buildDirectory.get().asFile}"])
+                    }
+                    """.formatted(classpath));
+            writeExtension("FirstExtension", "The first extension.");
+            writeExtension("SecondExtension", "The second extension.");
+            compileJava();
+            var unchangedClass = tempDir.resolve("build/classes/java/main/org/example/SecondExtension.class");
+            var lastModified = FileTime.fromMillis(1000);
+            Files.setLastModifiedTime(unchangedClass, lastModified);
+
+            writeExtension("FirstExtension", "The edited first extension.");
+            compileJava();
+
+            assertThat(Files.getLastModifiedTime(unchangedClass)).withFailMessage("SecondExtension should not be recompiled").isEqualTo(lastModified);
+            var extensions = OBJECT_MAPPER.readTree(tempDir.resolve("build/edc.json").toFile()).get(0).get("extensions");
+            assertThat(extensions.findValuesAsText("className")).containsExactly("org.example.FirstExtension", "org.example.SecondExtension");
+            assertThat(extensions.findValuesAsText("overview")).containsExactly(" The edited first extension.\n", " The second extension.\n");
+        }
+
+        private void writeExtension(String name, String javadoc) throws IOException {
+            var source = tempDir.resolve("src/main/java/org/example/" + name + ".java");
+            Files.createDirectories(source.getParent());
+            Files.writeString(source, """
+                    package org.example;
+
+                    /**
+                     * %s
+                     */
+                    @org.eclipse.edc.runtime.metamodel.annotation.Extension("%s")
+                    public class %s {
+                    }
+                    """.formatted(javadoc, name, name));
+        }
+
+        private void compileJava() {
+            GradleRunner.create().withProjectDir(tempDir.toFile()).withArguments("compileJava").build();
+        }
+    }
+
+    @Test
+    void shouldDetectExtension_whenServiceExtensionIsInheritedThroughInterface() {
+        var task = createTask("test/IndirectServiceExtension.java");
+
+        assertThat(task.call()).isTrue();
+        assertThat(readManifest()).hasSize(1).first().extracting(EdcModule::getExtensions).asInstanceOf(COLLECTION)
+                .extracting("name").containsExactly("DefaultIndirectServiceExtension");
+    }
+
+    @Test
+    void shouldGenerateOverviewFromEachExtensionsOwnJavadoc() {
+        var task = createTask("testoverview");
+
+        assertThat(task.call()).isTrue();
+        assertThat(readManifest()).hasSize(1).first().extracting(EdcModule::getExtensions).asInstanceOf(COLLECTION)
+                .extracting("name", "overview")
+                .containsExactlyInAnyOrder(
+                        tuple("First documented extension", " The first documented extension.\n"),
+                        tuple("Second documented extension", " The second documented extension.\n"));
+    }
+
+    @Test
+    void shouldSortManifestContent() throws IOException {
+        createTask("testextensions").call();
+
+        var extensions = OBJECT_MAPPER.readTree(tempDir.resolve("edc.json").toFile()).get(0).get("extensions");
+
+        assertThat(extensions.findValuesAsText("className")).isSorted();
+        extensions.forEach(extension -> {
+            assertThat(extension.get("configuration").findValuesAsText("key")).isSorted();
+            assertThat(extension.get("provides").findValuesAsText("service")).isSorted();
+            assertThat(extension.get("references").findValuesAsText("service")).isSorted();
+        });
+    }
+
+    @Test
+    void shouldReportProcessingTime() {
+        var task = createTask("testextensions");
+
+        assertThat(task.call()).isTrue();
+        assertThat(diagnostics.getDiagnostics()).anySatisfy(diagnostic -> {
+            assertThat(diagnostic.getKind()).isEqualTo(Diagnostic.Kind.NOTE);
+            assertThat(diagnostic.getMessage(Locale.getDefault())).startsWith("autodoc: indexed").contains("processing took");
+        });
+    }
+
     @Test
     void shouldFail_whenSettingIsDefinedInClassNotExtension() {
         var task = createTask("test/NotExtensionWithSetting.java");
@@ -24,6 +24,7 @@ import java.util.Map;
 import javax.lang.model.element.AnnotationMirror;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Name;
 import javax.lang.model.type.DeclaredType;
 import javax.lang.model.util.Elements;
 
@@ -60,13 +61,11 @@ class AnnotationFunctionsTest {
     void validateAttributeValues() {
         var elementUtils = Mockito.mock(Elements.class);
         var mirror = Mockito.mock(AnnotationMirror.class);
-        var element = Mockito.mock(ExecutableElement.class);
-        Map mirrors = Map.of(element, new MockBooleanValue(false));
+        Map mirrors = Map.of(attribute("required"), new MockBooleanValue(false));
 
         when(elementUtils.getElementValuesWithDefaults(mirror)).thenReturn(mirrors);
-        when(element.toString()).thenReturn("required()");
 
-        assertThat(AnnotationFunctions.attributeValue(Boolean.class, "required", mirror, elementUtils)).isEqualTo(false);
+        assertThat(AnnotationFunctions.attributeValue(Boolean.class, "required", mirror, new AnnotationValueCache(elementUtils))).isEqualTo(false);
 
 
         verify(elementUtils, atLeastOnce()).getElementValuesWithDefaults(any());
@@ -77,13 +76,11 @@ class AnnotationFunctionsTest {
     void validateAttributeStringValues() {
         var elementUtils = Mockito.mock(Elements.class);
         var mirror = Mockito.mock(AnnotationMirror.class);
-        var element = Mockito.mock(ExecutableElement.class);
-        Map mirrors = Map.of(element, new MockCollectionValues(List.of(new MockStringValue("foo"))));
+        Map mirrors = Map.of(attribute("value"), new MockCollectionValues(List.of(new MockStringValue("foo"))));
 
         when(elementUtils.getElementValuesWithDefaults(mirror)).thenReturn(mirrors);
-        when(element.toString()).thenReturn("value()");
 
-        assertThat(AnnotationFunctions.attributeStringValues("value", mirror, elementUtils)).isEqualTo(List.of("foo"));
+        assertThat(AnnotationFunctions.attributeStringValues("value", mirror, new AnnotationValueCache(elementUtils))).isEqualTo(List.of("foo"));
 
 
         verify(elementUtils, atLeastOnce()).getElementValuesWithDefaults(any());
@@ -94,15 +91,20 @@ class AnnotationFunctionsTest {
     void validateAttributeTypeValues() {
         var elementUtils = Mockito.mock(Elements.class);
         var mirror = Mockito.mock(AnnotationMirror.class);
-        var element = Mockito.mock(ExecutableElement.class);
-        Map mirrors = Map.of(element, new MockCollectionValues(List.of(new MockTypeValue(new MockTypeMirror("foo.Bar")))));
+        Map mirrors = Map.of(attribute("value"), new MockCollectionValues(List.of(new MockTypeValue(new MockTypeMirror("foo.Bar")))));
 
         when(elementUtils.getElementValuesWithDefaults(mirror)).thenReturn(mirrors);
-        when(element.toString()).thenReturn("value()");
 
-        assertThat(AnnotationFunctions.attributeTypeValues("value", mirror, elementUtils)).isEqualTo(List.of("foo.Bar"));
+        assertThat(AnnotationFunctions.attributeTypeValues("value", mirror, new AnnotationValueCache(elementUtils))).isEqualTo(List.of("foo.Bar"));
 
         verify(elementUtils, atLeastOnce()).getElementValuesWithDefaults(any());
     }
 
+    private ExecutableElement attribute(String name) {
+        var element = Mockito.mock(ExecutableElement.class);
+        var simpleName = Mockito.mock(Name.class);
+        when(simpleName.toString()).thenReturn(name);
+        when(element.getSimpleName()).thenReturn(simpleName);
+        return element;
+    }
 }
@@ -0,0 +1,88 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.plugins.autodoc.core.processor.compiler;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Name;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.util.Elements;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AnnotationValueCacheTest {
+
+    private final Elements elementUtils = mock();
+    private final AnnotationValueCache cache = new AnnotationValueCache(elementUtils);
+
+    @Test
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    void shouldResolveValuesOncePerMirror() {
+        var mirror = mock(AnnotationMirror.class);
+        Map mirrors = Map.of(
+                attribute("required"), new MockBooleanValue(true),
+                attribute("value"), new MockStringValue("description"),
+                attribute("categories"), new MockCollectionValues(List.of(new MockStringValue("foo"))));
+        when(elementUtils.getElementValuesWithDefaults(mirror)).thenReturn(mirrors);
+
+        assertThat(AnnotationFunctions.attributeValue(Boolean.class, "required", mirror, cache)).isTrue();
+        assertThat(AnnotationFunctions.attributeValue(String.class, "value", mirror, cache)).isEqualTo("description");
+        assertThat(AnnotationFunctions.attributeStringValues("categories", mirror, cache)).containsExactly("foo");
+        assertThat(AnnotationFunctions.attributeTypeValues("unknown", mirror, cache)).isEmpty();
+
+        verify(elementUtils, times(1)).getElementValuesWithDefaults(mirror);
+    }
+
+    @Test
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    void shouldResolveAgain_whenCleared() {
+        var mirror = mock(AnnotationMirror.class);
+        Map mirrors = Map.of(attribute("required"), new MockBooleanValue(false));
+        when(elementUtils.getElementValuesWithDefaults(mirror)).thenReturn(mirrors);
+
+        AnnotationFunctions.attributeValue(Boolean.class, "required", mirror, cache);
+        cache.clear();
+        AnnotationFunctions.attributeValue(Boolean.class, "required", mirror, cache);
+
+        verify(elementUtils, times(2)).getElementValuesWithDefaults(mirror);
+    }
+
+    @Test
+    void shouldThrow_whenAttributeIsUnknown() {
+        var mirror = mock(AnnotationMirror.class);
+        when(mirror.getAnnotationType()).thenReturn(mock(DeclaredType.class));
+        when(elementUtils.getElementValuesWithDefaults(mirror)).thenReturn(Map.of());
+
+        assertThatThrownBy(() -> AnnotationFunctions.attributeValue(String.class, "value", mirror, cache))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private ExecutableElement attribute(String name) {
+        var element = mock(ExecutableElement.class);
+        var simpleName = mock(Name.class);
+        when(simpleName.toString()).thenReturn(name);
+        when(element.getSimpleName()).thenReturn(simpleName);
+        return element;
+    }
+}